@@ -0,0 +1,98 @@
+package com.ensias.spaceforces.quiz;
+
+import com.ensias.spaceforces.contestdifficulty.ContestDifficulty;
+import com.ensias.spaceforces.option.dto.OptionInfosDTO;
+import com.ensias.spaceforces.question.dto.QuestionWithOptionsDTO;
+import com.ensias.spaceforces.quiz.dto.ParticipantQuizDTO;
+import com.ensias.spaceforces.quiz.dto.QuizDetailsDTO;
+import com.ensias.spaceforces.user.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of /quizzes/{id}/details and of the participant view derived
+ * from it, which is what QuizPayloadCache renders before a quiz goes LIVE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizDetailsDtoBenchmark {
+
+    private static final int OPTIONS_PER_QUESTION = 4;
+
+    @Param({"10", "50"})
+    private int questionCount;
+
+    private QuizService quizService;
+    private ObjectMapper objectMapper;
+    private QuizDetailsDTO details;
+    private ParticipantQuizDTO participantView;
+
+    @Setup
+    public void setUp() {
+        // toParticipantView only reads the DTO, none of the collaborators are used
+        quizService = new QuizService(null, null, null, null, null, null, null, null);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<QuestionWithOptionsDTO> questions = new ArrayList<>(questionCount);
+        long optionId = 1;
+        for (long questionId = 1; questionId <= questionCount; questionId++) {
+            List<OptionInfosDTO> options = new ArrayList<>(OPTIONS_PER_QUESTION);
+            for (int i = 0; i < OPTIONS_PER_QUESTION; i++) {
+                options.add(new OptionInfosDTO(optionId++, i == 0, "Option " + i + " of question " + questionId));
+            }
+            questions.add(new QuestionWithOptionsDTO(questionId, 10, "orbits,physics",
+                    "Which orbit is question " + questionId + " about?", null, null, options));
+        }
+
+        details = new QuizDetailsDTO();
+        details.setId(1L);
+        details.setTitle("Weekly Contest");
+        details.setDescription("Orbital mechanics warm-up");
+        details.setDifficultyId(ContestDifficulty.builder().id(1L).diff("Easy").abbreviation("Ez").build());
+        details.setTopic("Physics");
+        details.setCreatedById(User.builder().id(1L).username("author").email("author@test.com").password("hash").build());
+        details.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+        details.setStartDateTime(LocalDateTime.of(2025, 1, 2, 12, 0));
+        details.setDuration(60);
+        details.setStatus(QuizStatus.LIVE);
+        details.setMode(QuizMode.PUBLIC);
+        details.setQuestions(questions);
+        participantView = quizService.toParticipantView(details);
+    }
+
+    @Benchmark
+    public byte[] serializeDetails() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(details);
+    }
+
+    @Benchmark
+    public ParticipantQuizDTO mapParticipantView() {
+        return quizService.toParticipantView(details);
+    }
+
+    @Benchmark
+    public byte[] serializeParticipantView() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(participantView);
+    }
+}
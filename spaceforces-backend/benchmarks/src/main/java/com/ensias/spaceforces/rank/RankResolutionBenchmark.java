@@ -0,0 +1,72 @@
+package com.ensias.spaceforces.rank;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RankService.resolveRank over a realistic rank ladder, as done after every graded
+ * submission.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankResolutionBenchmark {
+
+    private static final int RANKS = 10;
+    private static final int POINTS_SAMPLES = 1024;
+
+    private RankService rankService;
+    private int[] points;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Rank> ranks = new ArrayList<>(RANKS);
+        for (int i = 0; i < RANKS; i++) {
+            ranks.add(Rank.builder().id((long) i + 1).title("Rank " + i).abbreviation("R" + i)
+                    .minPoints(i * 500).maxPoints((i + 1) * 500 - 1).build());
+        }
+        rankService = new RankService(rankRepositoryReturning(ranks));
+        rankService.refreshRanks();
+
+        Random random = new Random(42);
+        points = new int[POINTS_SAMPLES];
+        for (int i = 0; i < POINTS_SAMPLES; i++) {
+            points[i] = random.nextInt(RANKS * 500);
+        }
+    }
+
+    @Benchmark
+    public Optional<Rank> resolveRank() {
+        next = (next + 1) & (POINTS_SAMPLES - 1);
+        return rankService.resolveRank(points[next]);
+    }
+
+    private static RankRepository rankRepositoryReturning(List<Rank> ranks) {
+        return (RankRepository) Proxy.newProxyInstance(RankRepository.class.getClassLoader(),
+                new Class<?>[]{RankRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return ranks;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,88 @@
+package com.ensias.spaceforces.submission;
+
+import com.ensias.spaceforces.option.Option;
+import com.ensias.spaceforces.question.Question;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grading of a full submission against a LIVE quiz's answer key, the in-memory part
+ * of SubmissionService.processQuizSubmission.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnswerKeyGradingBenchmark {
+
+    private static final int OPTIONS_PER_QUESTION = 4;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime END = START.plusMinutes(60);
+
+    @Param({"10", "50"})
+    private int questionCount;
+
+    private List<Question> questions;
+    private List<Option> options;
+    private QuizAnswerKey answerKey;
+    private long[] answeredQuestionIds;
+    private long[] answeredOptionIds;
+
+    @Setup
+    public void setUp() {
+        questions = new ArrayList<>(questionCount);
+        options = new ArrayList<>(questionCount * OPTIONS_PER_QUESTION);
+        long optionId = 1;
+        for (long questionId = 1; questionId <= questionCount; questionId++) {
+            Question question = Question.builder().id(questionId).points(10).build();
+            questions.add(question);
+            for (int i = 0; i < OPTIONS_PER_QUESTION; i++) {
+                options.add(Option.builder().id(optionId++).question(question).valid(i == 0).build());
+            }
+        }
+        answerKey = QuizAnswerKey.of(1L, START, END, questions, options);
+
+        Random random = new Random(42);
+        answeredQuestionIds = new long[questionCount];
+        answeredOptionIds = new long[questionCount];
+        for (int i = 0; i < questionCount; i++) {
+            answeredQuestionIds[i] = i + 1;
+            answeredOptionIds[i] = i * OPTIONS_PER_QUESTION + 1 + random.nextInt(OPTIONS_PER_QUESTION);
+        }
+    }
+
+    @Benchmark
+    public int gradeSubmission() {
+        int total = 0;
+        for (int i = 0; i < answeredQuestionIds.length; i++) {
+            int points = answerKey.pointsFor(answeredQuestionIds[i], answeredOptionIds[i]);
+            if (points == QuizAnswerKey.NOT_AN_OPTION) {
+                throw new IllegalStateException("Option does not belong to question");
+            }
+            total += points;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public QuizAnswerKey buildAnswerKey() {
+        return QuizAnswerKey.of(1L, START, END, questions, options);
+    }
+}
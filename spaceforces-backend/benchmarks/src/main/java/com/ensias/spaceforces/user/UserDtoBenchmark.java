@@ -0,0 +1,72 @@
+package com.ensias.spaceforces.user;
+
+import com.ensias.spaceforces.rank.Rank;
+import com.ensias.spaceforces.user.dto.UserDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping and JSON serialization of the /all-users response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDtoBenchmark {
+
+    @Param({"100", "1000"})
+    private int userCount;
+
+    private UserService userService;
+    private ObjectMapper objectMapper;
+    private List<User> users;
+    private List<UserDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        // mapToDto only reads the entity, none of the collaborators are used
+        userService = new UserService(null, null, null, null, null, null);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Rank rank = Rank.builder().id(1L).title("Beginner").abbreviation("BEG").minPoints(0).maxPoints(499).build();
+        users = new ArrayList<>(userCount);
+        for (long i = 1; i <= userCount; i++) {
+            users.add(User.builder().id(i).username("player" + i).email("player" + i + "@test.com")
+                    .password("hash").points((int) (i * 7 % 500)).description("Space cadet #" + i)
+                    .rank(rank).build());
+        }
+        dtos = mapUsers();
+    }
+
+    @Benchmark
+    public List<UserDTO> mapUsers() {
+        List<UserDTO> mapped = new ArrayList<>(users.size());
+        for (User user : users) {
+            mapped.add(userService.mapToDto(user));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public byte[] serializeUsers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ensias.spaceforces.utils;
+
+import com.ensias.spaceforces.user.User;
+import com.ensias.spaceforces.user.config.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request bearer token handling: full signature verification and claim parsing
+ * versus a VerifiedTokenCache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache tokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        setField(jwtTokenProvider, "jwtSecret", "");
+        setField(jwtTokenProvider, "jwtExpirationDate", 3_600_000L);
+        jwtTokenProvider.init();
+
+        User user = User.builder().id(42L).email("player@test.com").password("hash").build();
+        CustomUserDetails principal = new CustomUserDetails(user);
+        token = jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        tokenCache = new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), 10_000);
+        tokenCache.getUserDetails(token);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtTokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public CustomUserDetails getUserDetails() {
+        return jwtTokenProvider.getUserDetails(token);
+    }
+
+    @Benchmark
+    public CustomUserDetails getUserDetailsCached() {
+        return tokenCache.getUserDetails(token);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
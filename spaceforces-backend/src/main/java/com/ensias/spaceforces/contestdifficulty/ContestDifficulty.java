@@ -1,10 +1,13 @@
 package com.ensias.spaceforces.contestdifficulty;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Builder
@@ -12,6 +15,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Table(name = "contest_difficulty")
 @Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "contest-difficulty")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class ContestDifficulty {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
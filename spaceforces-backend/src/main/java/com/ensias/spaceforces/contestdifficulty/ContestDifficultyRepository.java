@@ -1,6 +1,14 @@
 package com.ensias.spaceforces.contestdifficulty;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface ContestDifficultyRepository extends JpaRepository<ContestDifficulty, Long> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ContestDifficulty> findAll();
 }
\ No newline at end of file
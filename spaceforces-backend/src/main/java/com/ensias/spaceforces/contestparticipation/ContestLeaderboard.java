@@ -0,0 +1,77 @@
+package com.ensias.spaceforces.contestparticipation;
+
+import com.ensias.spaceforces.contestparticipation.dto.LeaderboardEntryDTO;
+import com.ensias.spaceforces.utils.OrderStatisticTree;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Standings of a single quiz ordered by score (desc), then completion time (asc).
+ */
+public class ContestLeaderboard {
+
+    record Entry(Long userId, String username, int score, LocalDateTime completionTime) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt(Entry::score).reversed()
+            .thenComparing(Entry::completionTime, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Entry::userId);
+
+    private final OrderStatisticTree<Entry> standings = new OrderStatisticTree<>(ORDER);
+    private final Map<Long, Entry> entriesByUser = new HashMap<>();
+
+    public synchronized void upsert(Long userId, String username, int score, LocalDateTime completionTime) {
+        Entry previous = entriesByUser.get(userId);
+        if (previous != null) {
+            standings.remove(previous);
+        }
+        Entry entry = new Entry(userId, username, score, completionTime);
+        entriesByUser.put(userId, entry);
+        standings.add(entry);
+    }
+
+    public synchronized boolean holds(Long userId, int score, LocalDateTime completionTime) {
+        Entry entry = entriesByUser.get(userId);
+        return entry != null && entry.score() == score && Objects.equals(entry.completionTime(), completionTime);
+    }
+
+    public synchronized void remove(Long userId) {
+        Entry previous = entriesByUser.remove(userId);
+        if (previous != null) {
+            standings.remove(previous);
+        }
+    }
+
+    public synchronized List<LeaderboardEntryDTO> top(int limit) {
+        List<Entry> head = standings.head(limit);
+        List<LeaderboardEntryDTO> result = new ArrayList<>(head.size());
+        for (int i = 0; i < head.size(); i++) {
+            result.add(toDto(i, head.get(i)));
+        }
+        return result;
+    }
+
+    public synchronized Optional<LeaderboardEntryDTO> findByUserId(Long userId) {
+        Entry entry = entriesByUser.get(userId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.of(toDto(standings.indexOf(entry), entry));
+    }
+
+    public synchronized int size() {
+        return standings.size();
+    }
+
+    private static LeaderboardEntryDTO toDto(int index, Entry entry) {
+        return new LeaderboardEntryDTO(index + 1, entry.userId(), entry.username(), entry.score(), entry.completionTime());
+    }
+}
@@ -0,0 +1,145 @@
+package com.ensias.spaceforces.contestparticipation;
+
+import com.ensias.spaceforces.contestparticipation.dto.LeaderboardEntryDTO;
+import com.ensias.spaceforces.exception.ResourceNotFoundException;
+import com.ensias.spaceforces.quiz.QuizRepository;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import com.ensias.spaceforces.quiz.QuizStatusChangedEvent;
+import com.ensias.spaceforces.quiz.QuizWarmUpEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class ContestLeaderboardService {
+
+    private static final int MAX_LIMIT = 500;
+    // Re-reads rows slightly older than the last catch-up, for commits that landed late or clocks that drift
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofSeconds(30);
+
+    private final ContestParticipationRepository participationRepository;
+    private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, ContestLeaderboard> boards = new ConcurrentHashMap<>();
+    private volatile LocalDateTime caughtUpTo = LocalDateTime.now();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLiveQuizzes() {
+        for (Long quizId : quizRepository.findIdsByStatus(QuizStatus.LIVE)) {
+            boards.computeIfAbsent(quizId, this::load);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizWarmUp(QuizWarmUpEvent event) {
+        boards.computeIfAbsent(event.quizId(), this::load);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizStatusChanged(QuizStatusChangedEvent event) {
+        if (event.status() == QuizStatus.FINISHED) {
+            evict(event.quizId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoreChanged(ContestScoreChangedEvent event) {
+        // Without a board in memory the next read loads it from the database, committed score included
+        boards.computeIfPresent(event.quizId(), (quizId, board) -> {
+            board.upsert(event.userId(), event.username(), event.score(), event.completionTime());
+            return board;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipationDeleted(ContestParticipationDeletedEvent event) {
+        ContestLeaderboard board = boards.get(event.quizId());
+        if (board != null) {
+            board.remove(event.userId());
+        }
+    }
+
+    /**
+     * Scores graded on other instances never reach this one as events, so boards in memory pick
+     * them up from the participations updated since the last pass. Changes are republished as
+     * score events, which also feeds them to this instance's SSE subscribers.
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.catch-up-ms:2000}")
+    public void catchUp() {
+        if (boards.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = caughtUpTo.minus(CATCH_UP_OVERLAP);
+        for (Object[] row : participationRepository.findStandingsChangedSince(boards.keySet(), since)) {
+            Long quizId = (Long) row[0];
+            Long userId = (Long) row[1];
+            int score = (Integer) row[3];
+            LocalDateTime completionTime = (LocalDateTime) row[4];
+            ContestLeaderboard board = boards.get(quizId);
+            if (board != null && !board.holds(userId, score, completionTime)) {
+                eventPublisher.publishEvent(new ContestScoreChangedEvent(
+                        quizId, userId, (String) row[2], score, completionTime));
+            }
+        }
+        caughtUpTo = now;
+    }
+
+    // Participations deleted on another instance only leave a board when it is rebuilt
+    @Scheduled(fixedDelayString = "${leaderboard.rebuild-ms:300000}")
+    public void rebuild() {
+        for (Long quizId : boards.keySet()) {
+            boards.computeIfPresent(quizId, (id, board) -> load(id));
+        }
+    }
+
+    public List<LeaderboardEntryDTO> getTop(Long quizId, int limit) {
+        return getBoard(quizId).top(Math.max(0, Math.min(limit, MAX_LIMIT)));
+    }
+
+    public LeaderboardEntryDTO getUserStanding(Long quizId, Long userId) {
+        return getBoard(quizId).findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "User " + userId + " has no standing in quiz: " + quizId));
+    }
+
+    public void evict(Long quizId) {
+        boards.remove(quizId);
+    }
+
+    ContestLeaderboard getBoard(Long quizId) {
+        ContestLeaderboard board = boards.get(quizId);
+        if (board != null) {
+            return board;
+        }
+        QuizStatus status = quizRepository.findStatusById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
+        // Only running contests stay in memory; other quizzes are rebuilt for each request
+        if (status != QuizStatus.LIVE) {
+            return load(quizId);
+        }
+        return boards.computeIfAbsent(quizId, this::load);
+    }
+
+    private ContestLeaderboard load(Long quizId) {
+        ContestLeaderboard board = new ContestLeaderboard();
+        for (ContestParticipation participation : participationRepository.findByQuizId(quizId)) {
+            board.upsert(participation.getUser().getId(), participation.getUser().getUsername(),
+                    participation.getScore(), participation.getCompletionTime());
+        }
+        System.out.println("Leaderboard for quiz " + quizId + " loaded (" + board.size() + " participants)");
+        return board;
+    }
+}
@@ -11,6 +11,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = "ContestParticipation.withUser", attributeNodes = @NamedAttributeNode("user"))
+@NamedEntityGraph(name = "ContestParticipation.full",
+        attributeNodes = {
+                @NamedAttributeNode(value = "user", subgraph = "user"),
+                @NamedAttributeNode(value = "quiz", subgraph = "quiz")},
+        subgraphs = {
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("rank")),
+                @NamedSubgraph(name = "quiz", attributeNodes = {
+                        @NamedAttributeNode("difficulty"), @NamedAttributeNode(value = "createdBy", subgraph = "user")})})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,15 +27,16 @@ import java.time.LocalDateTime;
 @Data
 public class ContestParticipation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contest_participation_seq")
+    @SequenceGenerator(name = "contest_participation_seq", sequenceName = "contest_participation_seq", allocationSize = 50)
     @Column(name = "id_participation")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "quiz_id", nullable = false)
     private Quiz quiz;
 
@@ -1,12 +1,15 @@
 package com.ensias.spaceforces.contestparticipation;
 
 import com.ensias.spaceforces.contestparticipation.dto.ContestParticipationDTO;
+import com.ensias.spaceforces.contestparticipation.dto.LeaderboardEntryDTO;
 import com.ensias.spaceforces.user.UserService;
 import com.ensias.spaceforces.user.config.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -16,6 +19,8 @@ import java.util.List;
 public class ContestParticipationController {
 
     private final ContestParticipationService participationService;
+    private final ContestLeaderboardService leaderboardService;
+    private final ContestScoreStreamService scoreStreamService;
     private final UserService userService;
     @PostMapping
     public ResponseEntity<ContestParticipation> createParticipation(@RequestBody ContestParticipationDTO dto) {
@@ -53,6 +58,24 @@ public class ContestParticipationController {
         return ResponseEntity.ok(participationService.getParticipationByQuizId(quizId));
     }
 
+    @GetMapping("/quiz/{quizId}/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getLeaderboard(
+            @PathVariable Long quizId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(leaderboardService.getTop(quizId, limit));
+    }
+
+    @GetMapping(value = "/quiz/{quizId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScores(@PathVariable Long quizId) {
+        return scoreStreamService.subscribe(quizId);
+    }
+
+    @GetMapping("/quiz/{quizId}/my-rank")
+    public ResponseEntity<LeaderboardEntryDTO> getMyRank(@PathVariable Long quizId) {
+        CustomUserDetails userDetails = userService.auth();
+        return ResponseEntity.ok(leaderboardService.getUserStanding(quizId, userDetails.getId()));
+    }
+
     @GetMapping("/user/{userId}/quiz/{quizId}")
     public ResponseEntity<Boolean> checkUserParticipation(
             @PathVariable Long userId,
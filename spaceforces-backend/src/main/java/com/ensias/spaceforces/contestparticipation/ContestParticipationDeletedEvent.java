@@ -0,0 +1,4 @@
+package com.ensias.spaceforces.contestparticipation;
+
+public record ContestParticipationDeletedEvent(Long quizId, Long userId) {
+}
@@ -1,16 +1,37 @@
 package com.ensias.spaceforces.contestparticipation;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ContestParticipationRepository extends JpaRepository<ContestParticipation, Long> {
+    @Override
+    @EntityGraph("ContestParticipation.full")
+    List<ContestParticipation> findAll();
+
+    @EntityGraph("ContestParticipation.full")
     List<ContestParticipation> findByUserId(Long userId);
+
+    @EntityGraph("ContestParticipation.withUser")
     List<ContestParticipation> findByQuizId(Long quizId);
+
+    @EntityGraph("ContestParticipation.full")
+    List<ContestParticipation> findByQuizIdOrderByScoreDescCompletionTimeAsc(Long quizId);
+
     boolean existsByUserIdAndQuizId(Long userId, Long quizId);
-    Optional<ContestParticipation> findByUserIdAndQuizId(Long userId, Long quizId);
 
+    Optional<ContestParticipation> findByUserIdAndQuizId(Long userId, Long quizId);
 
+    @Query("select p.quiz.id, u.id, u.username, p.score, p.completionTime from ContestParticipation p join p.user u " +
+            "where p.quiz.id in :quizIds and p.completionTime > :since")
+    List<Object[]> findStandingsChangedSince(@Param("quizIds") Collection<Long> quizIds,
+                                             @Param("since") LocalDateTime since);
 }
\ No newline at end of file
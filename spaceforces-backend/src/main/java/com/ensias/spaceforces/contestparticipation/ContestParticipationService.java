@@ -7,11 +7,11 @@ import com.ensias.spaceforces.quiz.QuizStatus;
 import com.ensias.spaceforces.user.User;
 import com.ensias.spaceforces.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,6 +22,7 @@ public class ContestParticipationService {
     private final ContestParticipationRepository participationRepository;
     private final UserRepository userRepository;
     private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ContestParticipation createParticipation(ContestParticipationDTO participationDto, Long idUser) {
         User user = userRepository.findById(idUser)
@@ -39,7 +40,9 @@ public class ContestParticipationService {
         participation.setQuiz(quiz);
         participation.setScore(0);
 
-        return participationRepository.save(participation);
+        ContestParticipation saved = participationRepository.save(participation);
+        eventPublisher.publishEvent(ContestScoreChangedEvent.of(saved));
+        return saved;
     }
 
     public List<ContestParticipation> getAllParticipations() {
@@ -54,9 +57,7 @@ public class ContestParticipationService {
 
     @Transactional(readOnly = true)
     public List<ContestParticipation> getParticipationByQuizId(Long quizId) {
-        return participationRepository.findByQuizId(quizId).stream()
-                .sorted(Comparator.comparingInt(ContestParticipation::getScore).reversed())
-                .toList();
+        return participationRepository.findByQuizIdOrderByScoreDescCompletionTimeAsc(quizId);
     }
 
     @Transactional(readOnly = true)
@@ -66,10 +67,11 @@ public class ContestParticipationService {
 
     @Transactional
     public void deleteParticipation(Long participationId) {
-        if (!participationRepository.existsById(participationId)) {
-            throw new RuntimeException("Participation not found with ID: " + participationId);
-        }
+        ContestParticipation participation = participationRepository.findById(participationId)
+                .orElseThrow(() -> new RuntimeException("Participation not found with ID: " + participationId));
         System.out.println("Deleting participation: " + participationId);
-        participationRepository.deleteById(participationId);
+        participationRepository.delete(participation);
+        eventPublisher.publishEvent(new ContestParticipationDeletedEvent(
+                participation.getQuiz().getId(), participation.getUser().getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.ensias.spaceforces.contestparticipation;
+
+import java.time.LocalDateTime;
+
+public record ContestScoreChangedEvent(Long quizId, Long userId, String username, int score, LocalDateTime completionTime) {
+
+    public static ContestScoreChangedEvent of(ContestParticipation participation) {
+        return new ContestScoreChangedEvent(
+                participation.getQuiz().getId(),
+                participation.getUser().getId(),
+                participation.getUser().getUsername(),
+                participation.getScore(),
+                participation.getCompletionTime());
+    }
+}
@@ -0,0 +1,217 @@
+package com.ensias.spaceforces.contestparticipation;
+
+import com.ensias.spaceforces.contestparticipation.dto.LeaderboardEntryDTO;
+import com.ensias.spaceforces.exception.BadRequestException;
+import com.ensias.spaceforces.exception.ResourceNotFoundException;
+import com.ensias.spaceforces.quiz.QuizRepository;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import com.ensias.spaceforces.quiz.QuizStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes coalesced score changes of a quiz to its SSE subscribers. Emitters are
+ * async servlet responses, so idle subscribers hold no request thread; each tick
+ * serializes a quiz's delta once and queues the same payload for every subscriber.
+ * Writes happen on a dedicated virtual-thread executor, one drain task per
+ * subscriber, so a slow client never holds up the scheduler or other clients.
+ * A subscriber whose bounded queue overflows is completed and dropped. Streams are
+ * only opened for LIVE quizzes and are completed, after a last delta, once the quiz
+ * finishes.
+ */
+@Service
+public class ContestScoreStreamService {
+
+    private static final int SNAPSHOT_SIZE = 50;
+    // Queued after the last payload of a stream; the drain task completes the emitter on it
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> CLOSE = Set.of();
+
+    private final ContestLeaderboardService leaderboardService;
+    private final QuizRepository quizRepository;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+    private final int queueSize;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> pendingUsers = new ConcurrentHashMap<>();
+
+    public ContestScoreStreamService(ContestLeaderboardService leaderboardService,
+                                     QuizRepository quizRepository,
+                                     ObjectMapper objectMapper,
+                                     @Value("${leaderboard.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+                                     @Value("${leaderboard.stream.queue-size:16}") int queueSize) {
+        this.leaderboardService = leaderboardService;
+        this.quizRepository = quizRepository;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.queueSize = queueSize;
+    }
+
+    private final class Subscriber {
+        private final Long quizId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long quizId, SseEmitter emitter) {
+            this.quizId = quizId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> payload) {
+            if (!queue.offer(payload)) {
+                System.err.println("Dropping slow scoreboard subscriber of quiz " + quizId);
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> payload;
+                while ((payload = queue.poll()) != null) {
+                    if (payload == CLOSE) {
+                        emitter.complete();
+                        queue.clear();
+                        break;
+                    }
+                    try {
+                        emitter.send(payload);
+                    } catch (IOException | IllegalStateException e) {
+                        unsubscribe(this);
+                        queue.clear();
+                    }
+                }
+                draining.set(false);
+                // A payload queued after the last poll but before the reset would otherwise wait
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+
+    public SseEmitter subscribe(Long quizId) {
+        QuizStatus status = quizRepository.findStatusById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
+        if (status != QuizStatus.LIVE) {
+            throw new BadRequestException("Quiz is not Live! Current status: " + status);
+        }
+        List<LeaderboardEntryDTO> snapshot = leaderboardService.getTop(quizId, SNAPSHOT_SIZE);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(quizId, emitter);
+        subscribers.compute(quizId, (id, quizSubscribers) -> {
+            Set<Subscriber> result = quizSubscribers != null ? quizSubscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        subscriber.enqueue(SseEmitter.event().name("snapshot").data(serialize(snapshot), MediaType.APPLICATION_JSON).build());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoreChanged(ContestScoreChangedEvent event) {
+        if (subscribers.containsKey(event.quizId())) {
+            pendingUsers.computeIfAbsent(event.quizId(), id -> ConcurrentHashMap.newKeySet()).add(event.userId());
+        }
+    }
+
+    // Also fires for quizzes finished on other instances, through QuizStatusSync
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizStatusChanged(QuizStatusChangedEvent event) {
+        if (event.status() != QuizStatus.FINISHED) {
+            return;
+        }
+        Set<Subscriber> quizSubscribers = subscribers.remove(event.quizId());
+        if (quizSubscribers == null) {
+            return;
+        }
+        flush(event.quizId(), pendingUsers.remove(event.quizId()), quizSubscribers);
+        broadcast(quizSubscribers, SseEmitter.event().name("finished").data(event.quizId()));
+        quizSubscribers.forEach(subscriber -> subscriber.enqueue(CLOSE));
+    }
+
+    @Scheduled(fixedDelayString = "${leaderboard.stream.tick-ms:500}")
+    public void flush() {
+        for (Long quizId : pendingUsers.keySet()) {
+            flush(quizId, pendingUsers.remove(quizId), subscribers.get(quizId));
+        }
+    }
+
+    private void flush(Long quizId, Set<Long> userIds, Set<Subscriber> quizSubscribers) {
+        if (userIds == null || userIds.isEmpty() || quizSubscribers == null || quizSubscribers.isEmpty()) {
+            return;
+        }
+
+        ContestLeaderboard board = leaderboardService.getBoard(quizId);
+        List<LeaderboardEntryDTO> deltas = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            board.findByUserId(userId).ifPresent(deltas::add);
+        }
+        if (!deltas.isEmpty()) {
+            broadcast(quizSubscribers, SseEmitter.event().name("scores")
+                    .data(serialize(deltas), MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${leaderboard.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(quizSubscribers ->
+                broadcast(quizSubscribers, SseEmitter.event().comment("ping")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    // Only queues: the actual writes run on the senders executor
+    private void broadcast(Set<Subscriber> quizSubscribers, SseEmitter.SseEventBuilder event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> payload = event.build();
+        for (Subscriber subscriber : quizSubscribers) {
+            subscriber.enqueue(payload);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.quizId, (id, quizSubscribers) -> {
+            quizSubscribers.remove(subscriber);
+            return quizSubscribers.isEmpty() ? null : quizSubscribers;
+        });
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize scoreboard update", e);
+        }
+    }
+}
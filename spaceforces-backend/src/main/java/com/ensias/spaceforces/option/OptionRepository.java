@@ -1,12 +1,19 @@
 package com.ensias.spaceforces.option;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OptionRepository extends JpaRepository<Option, Long> {
     List<Option> findByQuestionId(Long questionId);
+    List<Option> findByQuestionQuizId(Long quizId);
+
+    @Query("select o.question.quiz.id from Option o where o.id = :id")
+    Optional<Long> findQuizIdById(@Param("id") Long id);
 
 }
\ No newline at end of file
@@ -4,7 +4,9 @@ import com.ensias.spaceforces.exception.ResourceNotFoundException;
 import com.ensias.spaceforces.option.dto.OptionDTO;
 import com.ensias.spaceforces.question.Question;
 import com.ensias.spaceforces.question.QuestionRepository;
+import com.ensias.spaceforces.quiz.QuizContentChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +19,7 @@ public class OptionService {
 
     private final OptionRepository optionRepository;
     private final QuestionRepository questionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OptionDTO createOption(OptionDTO optionDTO) {
         Question question = questionRepository.findById(optionDTO.getQuestionId())
@@ -28,6 +31,7 @@ public class OptionService {
         option.setOptionText(optionDTO.getOptionText());
 
         Option savedOption = optionRepository.save(option);
+        eventPublisher.publishEvent(new QuizContentChangedEvent(question.getQuiz().getId()));
         return convertToDTO(savedOption);
     }
 
@@ -53,9 +57,9 @@ public class OptionService {
 
     @Transactional
     public void deleteOption(Long optionId) {
-        if (!optionRepository.existsById(optionId)) {
-            throw new ResourceNotFoundException("Option not found with id: " + optionId);
-        }
+        Long quizId = optionRepository.findQuizIdById(optionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Option not found with id: " + optionId));
         optionRepository.deleteById(optionId);
+        eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.ensias.spaceforces.option.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantOptionDTO {
+    private Long id;
+    private String optionText;
+}
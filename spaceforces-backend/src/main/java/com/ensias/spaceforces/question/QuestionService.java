@@ -6,8 +6,10 @@ import com.ensias.spaceforces.exception.ResourceNotFoundException;
 import com.ensias.spaceforces.option.dto.OptionInfosDTO;
 import com.ensias.spaceforces.question.dto.QuestionDTO;
 import com.ensias.spaceforces.quiz.Quiz;
+import com.ensias.spaceforces.quiz.QuizContentChangedEvent;
 import com.ensias.spaceforces.quiz.QuizRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.ensias.spaceforces.option.*;
@@ -26,6 +28,7 @@ public class QuestionService {
     private final QuizRepository quizRepository;
     private final OptionRepository optionRepository;
     private final Cloudinary cloudinary;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -60,6 +63,7 @@ public class QuestionService {
         question.setImageUrl(imageUrl);
 
         Question savedQuestion = questionRepository.save(question);
+        eventPublisher.publishEvent(new QuizContentChangedEvent(quiz.getId()));
 
         return convertToDTO(savedQuestion);
     }
@@ -80,6 +84,7 @@ public class QuestionService {
 
         question.setImageUrl(imageUrl);
         Question savedQuestion = questionRepository.save(question);
+        eventPublisher.publishEvent(new QuizContentChangedEvent(question.getQuiz().getId()));
 
         return convertToDTO(savedQuestion);
     }
@@ -126,6 +131,7 @@ public class QuestionService {
         Question question = questionRepository.findById(questionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Question not found"));
         questionRepository.delete(question);
+        eventPublisher.publishEvent(new QuizContentChangedEvent(question.getQuiz().getId()));
     }
 
 }
@@ -0,0 +1,20 @@
+package com.ensias.spaceforces.question.dto;
+
+import com.ensias.spaceforces.option.dto.ParticipantOptionDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantQuestionDTO {
+    private Long id;
+    private int points;
+    private String tags;
+    private String questionText;
+    private String imageUrl;
+    private List<ParticipantOptionDTO> options;
+}
@@ -0,0 +1,189 @@
+package com.ensias.spaceforces.quiz;
+
+import com.ensias.spaceforces.exception.BadRequestException;
+import com.ensias.spaceforces.exception.ResourceNotFoundException;
+import com.ensias.spaceforces.option.dto.OptionInfosDTO;
+import com.ensias.spaceforces.question.dto.QuestionWithOptionsDTO;
+import com.ensias.spaceforces.quiz.dto.QuestionImportResultDTO;
+import com.ensias.spaceforces.quiz.dto.QuestionImportResultDTO.RowError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Imports a question bank sent as NDJSON (one QuestionWithOptionsDTO per line).
+ * Lines are parsed one at a time and written in batches of import.questions.batch-size,
+ * each in its own transaction with the persistence context cleared afterwards, so
+ * memory does not grow with the size of the bank. Invalid lines are reported and skipped.
+ */
+@Service
+public class QuestionImportService {
+
+    private final QuizRepository quizRepository;
+    private final QuizService quizService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader questionReader;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public QuestionImportService(QuizRepository quizRepository,
+                                 QuizService quizService,
+                                 Validator validator,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper,
+                                 @Value("${import.questions.batch-size:50}") int batchSize,
+                                 @Value("${import.questions.max-reported-errors:100}") int maxReportedErrors) {
+        this.quizRepository = quizRepository;
+        this.quizService = quizService;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.questionReader = objectMapper.readerFor(QuestionWithOptionsDTO.class);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public QuestionImportResultDTO importQuestions(Long quizId, Long userId, InputStream body) throws IOException {
+        Quiz quiz = quizRepository.findById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + quizId));
+        if (!quiz.getCreatedBy().getId().equals(userId)) {
+            throw new AccessDeniedException("You can only import questions into your own quizzes");
+        }
+        if (quiz.getStatus() != QuizStatus.CREATED) {
+            throw new BadRequestException("Questions can only be imported before the quiz starts");
+        }
+
+        QuestionImportResultDTO result = new QuestionImportResultDTO(0, 0, new ArrayList<>());
+        List<QuestionWithOptionsDTO> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                QuestionWithOptionsDTO question;
+                try {
+                    question = questionReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    reject(result, lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String violation = validate(question);
+                if (violation != null) {
+                    reject(result, lineNumber, violation);
+                    continue;
+                }
+
+                batch.add(question);
+                batchLines.add(lineNumber);
+                if (batch.size() == batchSize) {
+                    flush(quiz, batch, batchLines, result);
+                }
+            }
+        }
+        flush(quiz, batch, batchLines, result);
+
+        if (result.getImported() > 0) {
+            eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
+        }
+        return result;
+    }
+
+    private void flush(Quiz quiz, List<QuestionWithOptionsDTO> batch, List<Long> batchLines,
+                       QuestionImportResultDTO result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        String error = save(quiz, batch);
+        if (error == null) {
+            result.setImported(result.getImported() + batch.size());
+        } else if (batch.size() == 1) {
+            reject(result, batchLines.get(0), "Could not be saved: " + error);
+        } else {
+            // Retry the batch line by line so only the rows the database refuses are rejected
+            for (int i = 0; i < batch.size(); i++) {
+                String lineError = save(quiz, List.of(batch.get(i)));
+                if (lineError == null) {
+                    result.setImported(result.getImported() + 1);
+                } else {
+                    reject(result, batchLines.get(i), "Could not be saved: " + lineError);
+                }
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    // Returns the database error, or null once the questions are committed
+    private String save(Quiz quiz, List<QuestionWithOptionsDTO> questions) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                quizService.addQuestions(quiz, questions);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            return null;
+        } catch (PersistenceException | DataAccessException | TransactionException e) {
+            System.err.println("Question import batch failed for quiz " + quiz.getId() + ": " + e.getMessage());
+            return NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        }
+    }
+
+    private String validate(QuestionWithOptionsDTO question) {
+        Set<ConstraintViolation<QuestionWithOptionsDTO>> violations = validator.validate(question);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<QuestionWithOptionsDTO> violation = violations.iterator().next();
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        if (question.getOptions() == null || question.getOptions().isEmpty()) {
+            return "options: At least one option is required";
+        }
+        for (OptionInfosDTO option : question.getOptions()) {
+            if (option.getOptionText() == null) {
+                return "options.optionText: Text is required";
+            }
+        }
+        return null;
+    }
+
+    private void reject(QuestionImportResultDTO result, long line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new RowError(line, message));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ensias.spaceforces.quiz;
 
 import com.ensias.spaceforces.contestdifficulty.ContestDifficulty;
 import com.ensias.spaceforces.user.User;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,10 +13,17 @@ import java.time.LocalDateTime;
 
 @Builder
 @Entity
-@Table(name = "quizzes")
+@NamedEntityGraph(name = "Quiz.summary",
+        attributeNodes = {@NamedAttributeNode("difficulty"), @NamedAttributeNode(value = "createdBy", subgraph = "creator")},
+        subgraphs = @NamedSubgraph(name = "creator", attributeNodes = @NamedAttributeNode("rank")))
+@Table(name = "quizzes", indexes = {
+        @Index(name = "idx_quizzes_status_start", columnList = "statut_quiz, start_date_time"),
+        @Index(name = "idx_quizzes_status_end", columnList = "statut_quiz, end_date_time")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Quiz {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,13 +34,13 @@ public class Quiz {
 
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "difficulty_id")
     private ContestDifficulty difficulty;
 
     private String topic;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by")
     private User createdBy;
 
@@ -46,6 +54,10 @@ public class Quiz {
     @Column(nullable = false)
     private int duration;
 
+    // start + duration, stored so overdue transitions can be found with an index range scan
+    @Column(name = "end_date_time")
+    private LocalDateTime endDateTime;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "statut_quiz", nullable = false)
     private QuizStatus status=QuizStatus.CREATED;
@@ -54,4 +66,9 @@ public class Quiz {
     @Column(name = "mode_quiz", nullable = false)
     private QuizMode mode;
 
+    @PrePersist
+    @PreUpdate
+    void computeEndDateTime() {
+        endDateTime = startDateTime == null ? null : startDateTime.plusMinutes(duration);
+    }
 }
\ No newline at end of file
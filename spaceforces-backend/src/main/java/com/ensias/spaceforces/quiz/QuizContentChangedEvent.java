@@ -0,0 +1,7 @@
+package com.ensias.spaceforces.quiz;
+
+/**
+ * Published when a quiz's questions or options are created, edited or deleted.
+ */
+public record QuizContentChangedEvent(Long quizId) {
+}
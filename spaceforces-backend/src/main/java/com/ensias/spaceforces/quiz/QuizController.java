@@ -1,18 +1,27 @@
 package com.ensias.spaceforces.quiz;
 
 import com.ensias.spaceforces.question.Question;
+import com.ensias.spaceforces.quiz.dto.QuestionImportResultDTO;
 import com.ensias.spaceforces.quiz.dto.QuizCreateDTO;
 import com.ensias.spaceforces.quiz.dto.QuizWithQuestionsDTO;
 import com.ensias.spaceforces.quiz.dto.QuizDetailsDTO;
 import com.ensias.spaceforces.user.UserService;
 import com.ensias.spaceforces.user.config.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/quizzes")
@@ -20,6 +29,8 @@ import java.util.List;
 public class QuizController {
 
     private final QuizService quizService;
+    private final QuizPayloadCache payloadCache;
+    private final QuestionImportService questionImportService;
     private final UserService userService;
 
 
@@ -43,6 +54,13 @@ public class QuizController {
             );
         }
 
+    @PostMapping(value = "/{id}/questions/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<QuestionImportResultDTO> importQuestions(@PathVariable Long id, InputStream body)
+            throws IOException {
+        CustomUserDetails userDetails = userService.auth();
+        return ResponseEntity.ok(questionImportService.importQuestions(id, userDetails.getId(), body));
+    }
+
 
 
     @GetMapping
@@ -77,6 +95,7 @@ public class QuizController {
     @GetMapping("/{quizId}/questions")
     public ResponseEntity<List<Question>> getQuizQuestions(
             @PathVariable Long quizId) {
+        quizService.checkCanSeeAnswers(quizId, userService.auth());
         return ResponseEntity.ok(quizService.getQuizQuestions(quizId));
     }
 
@@ -94,9 +113,113 @@ public class QuizController {
 
 
     @GetMapping("/{id}/details")
-    public ResponseEntity<QuizDetailsDTO> getQuizDetails(
-            @PathVariable Long id) {
-        return ResponseEntity.ok(quizService.getQuizDetailsById(id));
+    public ResponseEntity<?> getQuizDetails(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        quizService.checkCanSeeAnswers(id, userService.auth());
+        Optional<QuizPayloadCache.Payload> cached = payloadCache.get(id);
+        if (cached.isEmpty()) {
+            return ResponseEntity.ok(quizService.getQuizDetailsById(id));
+        }
+
+        // Carries the answers, so shared caches must not keep it
+        return writePayload(cached.get(), ifNoneMatch, acceptEncoding, CacheControl.noCache().cachePrivate());
+    }
+
+    @GetMapping("/{id}/participant-view")
+    public ResponseEntity<?> getParticipantView(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Optional<QuizPayloadCache.Payload> cached = payloadCache.getParticipantView(id);
+        if (cached.isEmpty()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(quizService.getParticipantQuiz(id));
+        }
+
+        // Answer-free and immutable while LIVE, so shared caches may keep it until the quiz ends
+        QuizPayloadCache.Payload payload = cached.get();
+        long secondsLeft = Math.max(0, Duration.between(LocalDateTime.now(), payload.endsAt()).getSeconds());
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(secondsLeft)).cachePublic();
+        return writePayload(payload, ifNoneMatch, acceptEncoding, cacheControl);
+    }
+
+    private ResponseEntity<?> writePayload(QuizPayloadCache.Payload payload, String ifNoneMatch,
+                                           String acceptEncoding, CacheControl cacheControl) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        // Each encoding is its own representation, so a cache must not revalidate one against the other
+        String etag = gzip ? payload.etag().replaceFirst("\"$", "-gz\"") : payload.etag();
+        if (matchesEtag(ifNoneMatch, etag)) {
+            ResponseEntity.HeadersBuilder<?> notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (cacheControl != null) {
+                notModified.cacheControl(cacheControl);
+            }
+            return notModified.build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cacheControl != null) {
+            response.cacheControl(cacheControl);
+        }
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.json());
+    }
+
+    // If-None-Match may list several validators, weak ones included, and uses the weak comparison
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "gzip;q=0" explicitly refuses gzip, so the q-values have to be read rather than matching the name
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzip = quality;
+            } else if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        // An explicit gzip entry takes precedence over the wildcard
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,139 @@
+package com.ensias.spaceforces.quiz;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ensias.spaceforces.quiz.dto.QuizDetailsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized /quizzes/{id}/details responses of LIVE quizzes, built once when the
+ * quiz goes LIVE so the start-of-contest burst is served without Jackson or the database.
+ * Payloads built by the pre-start warm-up are staged and only served once the quiz is LIVE.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizPayloadCache {
+
+    public record Payload(byte[] json, byte[] gzip, String etag, LocalDateTime endsAt) {
+    }
+
+    private record StagedPayloads(Payload details, Payload participantView) {
+    }
+
+    private final QuizService quizService;
+    private final QuizRepository quizRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Payload> payloads = new ConcurrentHashMap<>();
+    private final Map<Long, Payload> participantPayloads = new ConcurrentHashMap<>();
+    private final Map<Long, StagedPayloads> staged = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLiveQuizzes() {
+        for (Quiz quiz : quizRepository.findByStatus(QuizStatus.LIVE)) {
+            tryBuild(quiz.getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizStatusChanged(QuizStatusChangedEvent event) {
+        // A LIVE event can be handled after the quiz already moved on
+        if (event.status() != QuizStatus.LIVE
+                || quizRepository.findStatusById(event.quizId()).orElse(null) != QuizStatus.LIVE) {
+            evict(event.quizId());
+            return;
+        }
+        StagedPayloads stagedPayloads = staged.remove(event.quizId());
+        if (stagedPayloads != null) {
+            payloads.put(event.quizId(), stagedPayloads.details());
+            participantPayloads.put(event.quizId(), stagedPayloads.participantView());
+        } else {
+            tryBuild(event.quizId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizWarmUp(QuizWarmUpEvent event) {
+        try {
+            QuizDetailsDTO details = quizService.getQuizDetailsById(event.quizId());
+            LocalDateTime endsAt = details.getStartDateTime().plusMinutes(details.getDuration());
+            staged.put(event.quizId(), new StagedPayloads(
+                    toPayload(details, endsAt), toPayload(quizService.toParticipantView(details), endsAt)));
+        } catch (RuntimeException e) {
+            System.err.println("Could not stage details payload for quiz " + event.quizId() + ": " + e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        if (evict(event.quizId())) {
+            tryBuild(event.quizId());
+        }
+    }
+
+    public Optional<Payload> get(Long quizId) {
+        return Optional.ofNullable(payloads.get(quizId));
+    }
+
+    public Optional<Payload> getParticipantView(Long quizId) {
+        return Optional.ofNullable(participantPayloads.get(quizId));
+    }
+
+    public void build(Long quizId) {
+        QuizDetailsDTO details = quizService.getQuizDetailsById(quizId);
+        LocalDateTime endsAt = details.getStartDateTime().plusMinutes(details.getDuration());
+        Payload payload = toPayload(details, endsAt);
+        payloads.put(quizId, payload);
+        participantPayloads.put(quizId, toPayload(quizService.toParticipantView(details), endsAt));
+        System.out.println("Details payload for quiz " + quizId + " cached (" + payload.json().length + " bytes)");
+    }
+
+    private boolean evict(Long quizId) {
+        staged.remove(quizId);
+        participantPayloads.remove(quizId);
+        return payloads.remove(quizId) != null;
+    }
+
+    private Payload toPayload(Object body, LocalDateTime endsAt) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            return new Payload(json, gzip(json), etag, endsAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize quiz payload", e);
+        }
+    }
+
+    // A failed build only means the endpoint falls back to the uncached path
+    private void tryBuild(Long quizId) {
+        try {
+            build(quizId);
+        } catch (RuntimeException e) {
+            System.err.println("Could not cache details payload for quiz " + quizId + ": " + e.getMessage());
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,12 +1,79 @@
 package com.ensias.spaceforces.quiz;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
+    @EntityGraph("Quiz.summary")
+    Optional<Quiz> findDetailsById(Long id);
+
+    @Override
+    @EntityGraph("Quiz.summary")
+    List<Quiz> findAll();
+
+    @EntityGraph("Quiz.summary")
     List<Quiz> findByStatus(QuizStatus status);
+    List<Quiz> findByStatusIn(Collection<QuizStatus> statuses);
+
+    @Query("select q.id from Quiz q where q.status = :status and q.startDateTime <= :now")
+    List<Long> findIdsByStatusAndStartedBy(@Param("status") QuizStatus status, @Param("now") LocalDateTime now);
+
+    @Query("select q.id from Quiz q where q.status = :status and q.startDateTime > :from and q.startDateTime <= :until")
+    List<Long> findIdsByStatusAndStartBetween(@Param("status") QuizStatus status,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("until") LocalDateTime until);
+
+    @Query("select q.id from Quiz q where q.status in :statuses and q.endDateTime <= :now")
+    List<Long> findIdsByStatusInAndEndedBy(@Param("statuses") Collection<QuizStatus> statuses,
+                                           @Param("now") LocalDateTime now);
+
+    @Query("select q.id, q.startDateTime from Quiz q where q.mode in :modes " +
+            "and q.status = com.ensias.spaceforces.quiz.QuizStatus.CREATED and q.startDateTime <= :until")
+    List<Object[]> findStartsDueBy(@Param("modes") Collection<QuizMode> modes, @Param("until") LocalDateTime until);
+
+    @Query("select q.id, q.endDateTime from Quiz q where q.mode in :modes " +
+            "and q.status <> com.ensias.spaceforces.quiz.QuizStatus.FINISHED and q.endDateTime <= :until")
+    List<Object[]> findEndsDueBy(@Param("modes") Collection<QuizMode> modes, @Param("until") LocalDateTime until);
+
+    @Query("select q.id from Quiz q where q.status = :status")
+    List<Long> findIdsByStatus(@Param("status") QuizStatus status);
+
+    @Query("select q.id, q.status from Quiz q where q.id in :ids")
+    List<Object[]> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select q.status from Quiz q where q.id = :id")
+    Optional<QuizStatus> findStatusById(@Param("id") Long id);
+
+    @Query("select c.id from Quiz q left join q.createdBy c where q.id = :id")
+    Optional<Long> findCreatorIdById(@Param("id") Long id);
+
+    // Row locks make concurrent transitions of the same quizzes serialize on these rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select q.id from Quiz q where q.id in :ids and q.status in :from")
+    List<Long> lockIdsByIdInAndStatusIn(@Param("ids") Collection<Long> ids,
+                                        @Param("from") Collection<QuizStatus> from);
+
+    // Conditional so a quiz already moved on by another instance or job is left alone
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Quiz q set q.status = :to where q.id in :ids and q.status in :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("from") Collection<QuizStatus> from,
+                         @Param("to") QuizStatus to);
+    long countByStatus(QuizStatus status);
+    @EntityGraph("Quiz.summary")
     List<Quiz> findByCreatedById(Long userId);
+    @EntityGraph("Quiz.summary")
     List<Quiz> findByMode(QuizMode mode);
+    @EntityGraph("Quiz.summary")
     List<Quiz> findByModeAndStatus(QuizMode mode, QuizStatus status);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.quartz.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 
@@ -13,69 +14,97 @@ public class QuizSchedulerService {
     @Autowired
     private Scheduler scheduler;
 
+    @Autowired
+    private QuizTransitionWheel transitionWheel;
+
     public void scheduleQuizStatusUpdate(Quiz quiz) throws SchedulerException {
         if (quiz.getId() == null) {
             throw new IllegalArgumentException("Quiz ID cannot be null");
         }
 
-        // Calculate end time (start time + duration minutes)
-        Date startTime = Date.from(quiz.getStartDateTime()
-                .atZone(ZoneId.systemDefault()).toInstant());
-        Date endTime = Date.from(quiz.getStartDateTime()
-                .plusMinutes(quiz.getDuration())
-                .atZone(ZoneId.systemDefault()).toInstant());
-
-        // Create job for starting the quiz (LIVE status)
-        JobDetail startJob = JobBuilder.newJob(QuizStatusUpdateJob.class)
-                .withIdentity("quiz-start-" + quiz.getId(), "quiz-jobs")
-                .usingJobData("quizId", quiz.getId())
-                .usingJobData("newStatus", QuizStatus.LIVE.toString())
-                .storeDurably()
-                .build();
-
-        // Create trigger for start time
-        Trigger startTrigger = TriggerBuilder.newTrigger()
-                .withIdentity("quiz-start-trigger-" + quiz.getId(), "quiz-triggers")
-                .startAt(startTime)
-                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                        .withMisfireHandlingInstructionFireNow())
-                .forJob(startJob)
-                .build();
-
-        // Create job for ending the quiz (FINISHED status)
-        JobDetail endJob = JobBuilder.newJob(QuizStatusUpdateJob.class)
-                .withIdentity("quiz-end-" + quiz.getId(), "quiz-jobs")
-                .usingJobData("quizId", quiz.getId())
-                .usingJobData("newStatus", QuizStatus.FINISHED.toString())
-                .storeDurably()
-                .build();
+        // User-created quizzes only need a status flip, which the in-process wheel batches
+        if (QuizTransitionWheel.handles(quiz)) {
+            transitionWheel.schedule(quiz);
+            return;
+        }
 
-        // Create trigger for end time
-        Trigger endTrigger = TriggerBuilder.newTrigger()
-                .withIdentity("quiz-end-trigger-" + quiz.getId(), "quiz-triggers")
-                .startAt(endTime)
-                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                        .withMisfireHandlingInstructionFireNow())
-                .forJob(endJob)
-                .build();
+        LocalDateTime endDateTime = quiz.getStartDateTime().plusMinutes(quiz.getDuration());
 
-        // Schedule both jobs
-        scheduler.scheduleJob(startJob, startTrigger);
-        scheduler.scheduleJob(endJob, endTrigger);
+        // Schedule both jobs (LIVE at start, FINISHED at start + duration minutes)
+        scheduleTransition(quiz.getId(), "start", QuizStatus.LIVE, quiz.getStartDateTime());
+        scheduleTransition(quiz.getId(), "end", QuizStatus.FINISHED, endDateTime);
 
         System.out.println("Quiz " + quiz.getId() + " scheduled:");
         System.out.println("- LIVE at " + quiz.getStartDateTime());
-        System.out.println("- FINISHED at " + quiz.getStartDateTime().plusMinutes(quiz.getDuration()));
+        System.out.println("- FINISHED at " + endDateTime);
+    }
+
+    /**
+     * Re-registers the start/end triggers of a pending quiz that are missing from the
+     * scheduler and still in the future, dropping any orphaned durable job left behind.
+     * Returns the number of triggers added.
+     */
+    public int ensureScheduled(Quiz quiz) throws SchedulerException {
+        if (QuizTransitionWheel.handles(quiz)) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endDateTime = quiz.getStartDateTime().plusMinutes(quiz.getDuration());
+        int added = 0;
+
+        if (quiz.getStatus() == QuizStatus.CREATED && quiz.getStartDateTime().isAfter(now)
+                && !scheduler.checkExists(triggerKey(quiz.getId(), "start"))) {
+            scheduler.deleteJob(jobKey(quiz.getId(), "start"));
+            scheduleTransition(quiz.getId(), "start", QuizStatus.LIVE, quiz.getStartDateTime());
+            added++;
+        }
+        if (endDateTime.isAfter(now) && !scheduler.checkExists(triggerKey(quiz.getId(), "end"))) {
+            scheduler.deleteJob(jobKey(quiz.getId(), "end"));
+            scheduleTransition(quiz.getId(), "end", QuizStatus.FINISHED, endDateTime);
+            added++;
+        }
+        return added;
     }
 
     public void unscheduleQuizStatusUpdate(Long quizId) throws SchedulerException {
+        transitionWheel.cancel(quizId);
+
         // Delete both triggers and jobs
-        scheduler.unscheduleJob(TriggerKey.triggerKey("quiz-start-trigger-" + quizId, "quiz-triggers"));
-        scheduler.deleteJob(JobKey.jobKey("quiz-start-" + quizId, "quiz-jobs"));
+        scheduler.unscheduleJob(triggerKey(quizId, "start"));
+        scheduler.deleteJob(jobKey(quizId, "start"));
 
-        scheduler.unscheduleJob(TriggerKey.triggerKey("quiz-end-trigger-" + quizId, "quiz-triggers"));
-        scheduler.deleteJob(JobKey.jobKey("quiz-end-" + quizId, "quiz-jobs"));
+        scheduler.unscheduleJob(triggerKey(quizId, "end"));
+        scheduler.deleteJob(jobKey(quizId, "end"));
 
         System.out.println("Quiz " + quizId + " jobs unscheduled");
     }
-}
\ No newline at end of file
+
+    private void scheduleTransition(Long quizId, String phase, QuizStatus newStatus, LocalDateTime at)
+            throws SchedulerException {
+        JobDetail job = JobBuilder.newJob(QuizStatusUpdateJob.class)
+                .withIdentity(jobKey(quizId, phase))
+                .usingJobData("quizId", quizId)
+                .usingJobData("newStatus", newStatus.toString())
+                .storeDurably()
+                .requestRecovery()
+                .build();
+
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(triggerKey(quizId, phase))
+                .startAt(Date.from(at.atZone(ZoneId.systemDefault()).toInstant()))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withMisfireHandlingInstructionFireNow())
+                .forJob(job)
+                .build();
+
+        scheduler.scheduleJob(job, trigger);
+    }
+
+    private static JobKey jobKey(Long quizId, String phase) {
+        return JobKey.jobKey("quiz-" + phase + "-" + quizId, "quiz-jobs");
+    }
+
+    private static TriggerKey triggerKey(Long quizId, String phase) {
+        return TriggerKey.triggerKey("quiz-" + phase + "-trigger-" + quizId, "quiz-triggers");
+    }
+}
@@ -2,21 +2,27 @@ package com.ensias.spaceforces.quiz;
 
 import com.ensias.spaceforces.contestdifficulty.ContestDifficulty;
 import com.ensias.spaceforces.contestdifficulty.ContestDifficultyRepository;
+import com.ensias.spaceforces.contestparticipation.ContestParticipationRepository;
 import com.ensias.spaceforces.exception.BadRequestException;
 import com.ensias.spaceforces.exception.ResourceNotFoundException;
 import com.ensias.spaceforces.option.OptionRepository;
 import com.ensias.spaceforces.option.Option;
 import com.ensias.spaceforces.option.dto.OptionInfosDTO;
+import com.ensias.spaceforces.option.dto.ParticipantOptionDTO;
 import com.ensias.spaceforces.question.QuestionRepository;
+import com.ensias.spaceforces.question.dto.ParticipantQuestionDTO;
 import com.ensias.spaceforces.question.dto.QuestionWithOptionsDTO;
+import com.ensias.spaceforces.quiz.dto.ParticipantQuizDTO;
 import com.ensias.spaceforces.quiz.dto.QuizCreateDTO;
 import com.ensias.spaceforces.quiz.dto.QuizDTO;
 import com.ensias.spaceforces.quiz.dto.QuizDetailsDTO;
 import com.ensias.spaceforces.quiz.dto.QuizWithQuestionsDTO;
 import com.ensias.spaceforces.user.User;
 import com.ensias.spaceforces.user.UserRepository;
+import com.ensias.spaceforces.user.config.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.quartz.SchedulerException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import com.ensias.spaceforces.question.Question;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +30,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.nio.file.AccessDeniedException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +44,8 @@ public class QuizService {
     private final QuestionRepository questionRepository;
     private final QuizSchedulerService schedulerService;
     private final OptionRepository optionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContestParticipationRepository participationRepository;
 
 
     public Quiz createQuiz(QuizCreateDTO quizDTO, Long userId) {
@@ -75,7 +85,7 @@ public class QuizService {
     }
 
     public Quiz getQuizById(Long id) {
-        return quizRepository.findById(id)
+        return quizRepository.findDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + id));
     }
 
@@ -98,7 +108,9 @@ public class QuizService {
                 .orElseThrow(() -> new RuntimeException("Quiz not found with id: " + id));
 
         quiz.setStatus(newStatus);
-        return quizRepository.save(quiz);
+        Quiz savedQuiz = quizRepository.save(quiz);
+        eventPublisher.publishEvent(new QuizStatusChangedEvent(id, newStatus));
+        return savedQuiz;
     }
 
     private QuizDTO convertToDTO(Quiz quiz) {
@@ -117,6 +129,28 @@ public class QuizService {
         return dto;
     }
 
+    // Questions and details carry the correct answers: the creator and admins may always read them,
+    // participants only once the quiz has finished
+    @Transactional(readOnly = true)
+    public void checkCanSeeAnswers(Long quizId, CustomUserDetails userDetails) {
+        if (userDetails.isAdmin()) {
+            return;
+        }
+        Long creatorId = quizRepository.findCreatorIdById(quizId).orElse(null);
+        if (creatorId == null && !quizRepository.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz not found with id: " + quizId);
+        }
+        if (userDetails.getId().equals(creatorId)) {
+            return;
+        }
+        if (quizRepository.findStatusById(quizId).orElse(null) == QuizStatus.FINISHED
+                && participationRepository.existsByUserIdAndQuizId(userDetails.getId(), quizId)) {
+            return;
+        }
+        throw new org.springframework.security.access.AccessDeniedException(
+                "Only the creator, an admin or, once the quiz has finished, a participant can see its answers");
+    }
+
     @Transactional(readOnly = true)
     public List<Question> getQuizQuestions(Long quizId) {
         return questionRepository.findByQuizId(quizId).stream()
@@ -165,42 +199,72 @@ public class QuizService {
 
         Quiz savedQuiz = quizRepository.save(quiz);
 
-        for (QuestionWithOptionsDTO questionDTO : quizDTO.getQuestions()) {
+        addQuestions(savedQuiz, quizDTO.getQuestions());
+
+        try {
+            schedulerService.scheduleQuizStatusUpdate(savedQuiz);
+        } catch (SchedulerException e) {
+            throw new RuntimeException("Failed to schedule quiz start", e);
+        }
+
+        return savedQuiz;
+    }
+
+    /**
+     * Persists all questions, then all options, of a quiz with two saveAll calls so
+     * Hibernate sends them as JDBC batches. Returns question ids in input order.
+     */
+    @Transactional
+    public List<Long> addQuestions(Quiz quiz, List<QuestionWithOptionsDTO> questionDTOs) {
+        List<Question> questions = new ArrayList<>(questionDTOs.size());
+        List<Option> options = new ArrayList<>();
+        for (QuestionWithOptionsDTO questionDTO : questionDTOs) {
             Question question = new Question();
-            question.setQuiz(savedQuiz);
+            question.setQuiz(quiz);
             question.setPoints(questionDTO.getPoints());
             question.setTags(questionDTO.getTags());
             question.setQuestionText(questionDTO.getQuestionText());
             question.setCorrectOption(questionDTO.getCorrectOption());
             question.setImageUrl(questionDTO.getImageUrl());
+            questions.add(question);
 
-            Question savedQuestion = questionRepository.save(question);
-
+            if (questionDTO.getOptions() == null) {
+                continue;
+            }
             for (OptionInfosDTO optionDTO : questionDTO.getOptions()) {
                 Option option = new Option();
-                option.setQuestion(savedQuestion);
+                option.setQuestion(question);
                 option.setOptionText(optionDTO.getOptionText());
                 option.setValid(optionDTO.isValid());
-
-                optionRepository.save(option);
+                options.add(option);
             }
         }
 
-        try {
-            schedulerService.scheduleQuizStatusUpdate(savedQuiz);
-        } catch (SchedulerException e) {
-            throw new RuntimeException("Failed to schedule quiz start", e);
-        }
-
-        return savedQuiz;
+        List<Question> savedQuestions = questionRepository.saveAll(questions);
+        optionRepository.saveAll(options);
+        return savedQuestions.stream().map(Question::getId).toList();
     }
 
     @Transactional(readOnly = true)
     public QuizDetailsDTO getQuizDetailsById(Long id) {
-        Quiz quiz = quizRepository.findById(id)
+        Quiz quiz = quizRepository.findDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + id));
 
-        List<QuestionWithOptionsDTO> questions = questionRepository.findByQuizId(id).stream()
+        // Questions first, so option.getQuestion() resolves to entities already in the persistence context
+        List<Question> quizQuestions = questionRepository.findByQuizId(id);
+
+        // One query for all options of the quiz instead of one per question
+        Map<Long, List<OptionInfosDTO>> optionsByQuestion = new HashMap<>();
+        for (Option option : optionRepository.findByQuestionQuizId(id)) {
+            OptionInfosDTO optionDto = new OptionInfosDTO();
+            optionDto.setId(option.getId());
+            optionDto.setOptionText(option.getOptionText());
+            optionDto.setValid(option.isValid());
+            optionsByQuestion.computeIfAbsent(option.getQuestion().getId(), questionId -> new ArrayList<>())
+                    .add(optionDto);
+        }
+
+        List<QuestionWithOptionsDTO> questions = quizQuestions.stream()
                 .map(question -> {
                     QuestionWithOptionsDTO dto = new QuestionWithOptionsDTO();
                     dto.setId(question.getId());
@@ -209,17 +273,7 @@ public class QuizService {
                     dto.setQuestionText(question.getQuestionText());
                     dto.setCorrectOption(question.getCorrectOption());
                     dto.setImageUrl(question.getImageUrl());
-                    List<OptionInfosDTO> options = optionRepository.findByQuestionId(question.getId()).stream()
-                            .map(option -> {
-                                OptionInfosDTO optionDto = new OptionInfosDTO();
-                                optionDto.setId(option.getId());
-                                optionDto.setOptionText(option.getOptionText());
-                                optionDto.setValid(option.isValid());
-                                return optionDto;
-                            })
-                            .toList();
-
-                    dto.setOptions(options);
+                    dto.setOptions(optionsByQuestion.getOrDefault(question.getId(), List.of()));
                     return dto;
                 })
                 .toList();
@@ -242,6 +296,45 @@ public class QuizService {
     }
 
 
+    @Transactional(readOnly = true)
+    public ParticipantQuizDTO getParticipantQuiz(Long id) {
+        QuizDetailsDTO details = getQuizDetailsById(id);
+        if (details.getStatus() != QuizStatus.LIVE) {
+            throw new BadRequestException("Quiz is not Live! Current status: " + details.getStatus());
+        }
+        return toParticipantView(details);
+    }
+
+    public ParticipantQuizDTO toParticipantView(QuizDetailsDTO details) {
+        ParticipantQuizDTO dto = new ParticipantQuizDTO();
+        dto.setId(details.getId());
+        dto.setTitle(details.getTitle());
+        dto.setDescription(details.getDescription());
+        if (details.getDifficultyId() != null) {
+            dto.setDifficulty(details.getDifficultyId().getAbbreviation());
+        }
+        dto.setTopic(details.getTopic());
+        if (details.getCreatedById() != null) {
+            dto.setCreatedBy(details.getCreatedById().getUsername());
+        }
+        dto.setStartDateTime(details.getStartDateTime());
+        dto.setDuration(details.getDuration());
+        dto.setStatus(details.getStatus());
+        dto.setMode(details.getMode());
+        dto.setQuestions(details.getQuestions().stream()
+                .map(question -> new ParticipantQuestionDTO(
+                        question.getId(),
+                        question.getPoints(),
+                        question.getTags(),
+                        question.getQuestionText(),
+                        question.getImageUrl(),
+                        question.getOptions().stream()
+                                .map(option -> new ParticipantOptionDTO(option.getId(), option.getOptionText()))
+                                .toList()))
+                .toList());
+        return dto;
+    }
+
     @Transactional
     public void  deleteQuiz(Long quizId, Long userId) throws AccessDeniedException {
         Quiz quiz = quizRepository.findById(quizId)
@@ -0,0 +1,4 @@
+package com.ensias.spaceforces.quiz;
+
+public record QuizStatusChangedEvent(Long quizId, QuizStatus status) {
+}
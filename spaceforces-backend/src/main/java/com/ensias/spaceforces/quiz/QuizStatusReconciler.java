@@ -0,0 +1,57 @@
+package com.ensias.spaceforces.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.quartz.SchedulerException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Catches up quiz statuses whose start or end passed while no job fired for them
+ * (downtime, lost triggers). Each transition is one conditional bulk UPDATE over the
+ * overdue ids, so it is safe to run on every instance and alongside the Quartz jobs.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizStatusReconciler {
+
+    private static final Set<QuizStatus> PENDING = EnumSet.of(QuizStatus.CREATED, QuizStatus.LIVE);
+
+    private final QuizRepository quizRepository;
+    private final QuizSchedulerService schedulerService;
+    private final QuizStatusTransitioner statusTransitioner;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcileStatuses();
+        int added = 0;
+        for (Quiz quiz : quizRepository.findByStatusIn(PENDING)) {
+            try {
+                added += schedulerService.ensureScheduled(quiz);
+            } catch (SchedulerException e) {
+                System.err.println("Could not re-register triggers for quiz " + quiz.getId() + ": " + e.getMessage());
+            }
+        }
+        if (added > 0) {
+            System.out.println("Re-registered " + added + " missing quiz status triggers");
+        }
+    }
+
+    @Scheduled(initialDelayString = "${quiz.reconcile.interval-ms:60000}",
+            fixedDelayString = "${quiz.reconcile.interval-ms:60000}")
+    public void reconcileStatuses() {
+        LocalDateTime now = LocalDateTime.now();
+        int finished = statusTransitioner.transition(
+                quizRepository.findIdsByStatusInAndEndedBy(PENDING, now), QuizStatus.FINISHED);
+        int live = statusTransitioner.transition(
+                quizRepository.findIdsByStatusAndStartedBy(QuizStatus.CREATED, now), QuizStatus.LIVE);
+        if (finished + live > 0) {
+            System.out.println("Reconciled quiz statuses: " + live + " LIVE, " + finished + " FINISHED");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ensias.spaceforces.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A status transition is published only on the instance that made it (the node a
+ * clustered Quartz trigger fired on, or whose wheel won the UPDATE). Every instance
+ * polls the LIVE quiz ids and republishes locally the transitions it missed, so
+ * per-quiz caches on all nodes converge within quiz.status-sync.interval-ms.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizStatusSync {
+
+    private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Set<Long> knownLive = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLiveQuizzes() {
+        knownLive.addAll(quizRepository.findIdsByStatus(QuizStatus.LIVE));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizStatusChanged(QuizStatusChangedEvent event) {
+        if (event.status() == QuizStatus.LIVE) {
+            knownLive.add(event.quizId());
+        } else {
+            knownLive.remove(event.quizId());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${quiz.status-sync.interval-ms:5000}",
+            fixedDelayString = "${quiz.status-sync.interval-ms:5000}")
+    public void sync() {
+        Set<Long> live = new HashSet<>(quizRepository.findIdsByStatus(QuizStatus.LIVE));
+        for (Long quizId : live) {
+            if (!knownLive.contains(quizId)) {
+                eventPublisher.publishEvent(new QuizStatusChangedEvent(quizId, QuizStatus.LIVE));
+            }
+        }
+
+        List<Long> noLongerLive = knownLive.stream().filter(quizId -> !live.contains(quizId)).toList();
+        if (noLongerLive.isEmpty()) {
+            return;
+        }
+        Map<Long, QuizStatus> statuses = new HashMap<>();
+        for (Object[] row : quizRepository.findStatusesByIdIn(noLongerLive)) {
+            statuses.put((Long) row[0], (QuizStatus) row[1]);
+        }
+        for (Long quizId : noLongerLive) {
+            // A deleted quiz only needs its caches dropped
+            QuizStatus status = statuses.getOrDefault(quizId, QuizStatus.FINISHED);
+            eventPublisher.publishEvent(new QuizStatusChangedEvent(quizId, status));
+        }
+        System.out.println("Quiz status sync caught up " + noLongerLive.size() + " quizzes no longer LIVE");
+    }
+}
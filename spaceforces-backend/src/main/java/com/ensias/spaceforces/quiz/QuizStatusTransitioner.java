@@ -0,0 +1,50 @@
+package com.ensias.spaceforces.quiz;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves a batch of quizzes forward to a status with one conditional UPDATE and
+ * publishes a QuizStatusChangedEvent per quiz actually moved. Quizzes already at or
+ * past the target status are locked out of the batch first, so neither concurrent
+ * callers nor late triggers can move one back or announce a stale transition.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizStatusTransitioner {
+
+    private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public int transition(Collection<Long> quizIds, QuizStatus to) {
+        if (quizIds.isEmpty()) {
+            return 0;
+        }
+        Set<QuizStatus> from = previousStatuses(to);
+        List<Long> eligible = quizRepository.lockIdsByIdInAndStatusIn(quizIds, from);
+        if (eligible.isEmpty()) {
+            return 0;
+        }
+        int updated = quizRepository.transitionStatus(eligible, from, to);
+        eligible.forEach(id -> eventPublisher.publishEvent(new QuizStatusChangedEvent(id, to)));
+        return updated;
+    }
+
+    static Set<QuizStatus> previousStatuses(QuizStatus to) {
+        Set<QuizStatus> from = EnumSet.noneOf(QuizStatus.class);
+        for (QuizStatus status : QuizStatus.values()) {
+            if (status.compareTo(to) < 0) {
+                from.add(status);
+            }
+        }
+        return from;
+    }
+}
@@ -7,22 +7,37 @@ import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
 @Component
 public class QuizStatusUpdateJob implements Job {
 
     @Autowired
     private QuizRepository quizRepository;
 
+    @Autowired
+    private QuizStatusTransitioner statusTransitioner;
+
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
         JobDataMap jobDataMap = context.getMergedJobDataMap();
         Long quizId = jobDataMap.getLong("quizId");
         QuizStatus newStatus = QuizStatus.valueOf(jobDataMap.getString("newStatus"));
 
-        quizRepository.findById(quizId).ifPresent(quiz -> {
-            quiz.setStatus(newStatus);
-            quizRepository.save(quiz);
-            System.out.println("Quiz " + quizId + " status updated to " + newStatus);
-        });
+        // Contests starting or ending in the same minute fire together: the first job takes
+        // every quiz due for this transition in one UPDATE, the others then find theirs done
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> quizIds = new ArrayList<>(newStatus == QuizStatus.LIVE
+                ? quizRepository.findIdsByStatusAndStartedBy(QuizStatus.CREATED, now)
+                : quizRepository.findIdsByStatusInAndEndedBy(EnumSet.of(QuizStatus.CREATED, QuizStatus.LIVE), now));
+        if (!quizIds.contains(quizId)) {
+            quizIds.add(quizId);
+        }
+
+        int updated = statusTransitioner.transition(quizIds, newStatus);
+        System.out.println("Quiz " + quizId + " job moved " + updated + " quizzes to " + newStatus);
     }
-}
\ No newline at end of file
+}
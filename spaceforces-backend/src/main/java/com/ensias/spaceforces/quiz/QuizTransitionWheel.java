@@ -0,0 +1,132 @@
+package com.ensias.spaceforces.quiz;
+
+import com.ensias.spaceforces.utils.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-process scheduler for PUBLIC and PRIVATE quiz status transitions. Transitions
+ * due within quiz.wheel.horizon-ms are loaded from the quizzes (status, time)
+ * indexes into a hashed timing wheel. Everything due in the same tick is applied
+ * with one UPDATE per target status. OFFICIAL quizzes keep their Quartz jobs, and
+ * QuizStatusReconciler remains the fallback for anything missed.
+ */
+@Component
+public class QuizTransitionWheel {
+
+    public static final Set<QuizMode> MODES = EnumSet.of(QuizMode.PUBLIC, QuizMode.PRIVATE);
+
+    record Transition(Long quizId, QuizStatus to) {
+    }
+
+    private final QuizRepository quizRepository;
+    private final QuizStatusTransitioner statusTransitioner;
+    private final long horizonMillis;
+    private final HashedTimingWheel<Transition> wheel;
+
+    public QuizTransitionWheel(QuizRepository quizRepository,
+                               QuizStatusTransitioner statusTransitioner,
+                               @Value("${quiz.wheel.tick-ms:1000}") long tickMillis,
+                               @Value("${quiz.wheel.buckets:512}") int buckets,
+                               @Value("${quiz.wheel.horizon-ms:600000}") long horizonMillis) {
+        this.quizRepository = quizRepository;
+        this.statusTransitioner = statusTransitioner;
+        this.horizonMillis = horizonMillis;
+        this.wheel = new HashedTimingWheel<>(tickMillis, buckets, System.currentTimeMillis());
+    }
+
+    public static boolean handles(Quiz quiz) {
+        return quiz.getMode() != null && MODES.contains(quiz.getMode());
+    }
+
+    /** Adds the quiz's transitions if they fall inside the horizon; later ones are picked up by loadUpcoming. */
+    public void schedule(Quiz quiz) {
+        long until = System.currentTimeMillis() + horizonMillis;
+        LocalDateTime end = quiz.getStartDateTime().plusMinutes(quiz.getDuration());
+        synchronized (wheel) {
+            scheduleIfWithin(new Transition(quiz.getId(), QuizStatus.LIVE), quiz.getStartDateTime(), until);
+            scheduleIfWithin(new Transition(quiz.getId(), QuizStatus.FINISHED), end, until);
+        }
+    }
+
+    public void cancel(Long quizId) {
+        synchronized (wheel) {
+            wheel.cancel(new Transition(quizId, QuizStatus.LIVE));
+            wheel.cancel(new Transition(quizId, QuizStatus.FINISHED));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${quiz.wheel.load-ms:60000}", fixedDelayString = "${quiz.wheel.load-ms:60000}")
+    public void loadUpcoming() {
+        LocalDateTime until = LocalDateTime.now().plusNanos(horizonMillis * 1_000_000);
+        List<Object[]> starts = quizRepository.findStartsDueBy(MODES, until);
+        List<Object[]> ends = quizRepository.findEndsDueBy(MODES, until);
+        synchronized (wheel) {
+            for (Object[] row : starts) {
+                wheel.schedule(new Transition((Long) row[0], QuizStatus.LIVE), toMillis((LocalDateTime) row[1]));
+            }
+            for (Object[] row : ends) {
+                wheel.schedule(new Transition((Long) row[0], QuizStatus.FINISHED), toMillis((LocalDateTime) row[1]));
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${quiz.wheel.tick-ms:1000}")
+    public void tick() {
+        List<Transition> due;
+        synchronized (wheel) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<QuizStatus, List<Long>> idsByStatus = new EnumMap<>(QuizStatus.class);
+        for (Transition transition : due) {
+            idsByStatus.computeIfAbsent(transition.to(), status -> new ArrayList<>()).add(transition.quizId());
+        }
+        // FINISHED before LIVE so a quiz whose whole window passed in one tick is not reopened
+        for (QuizStatus to : List.of(QuizStatus.FINISHED, QuizStatus.LIVE)) {
+            List<Long> ids = idsByStatus.get(to);
+            if (ids == null) {
+                continue;
+            }
+            try {
+                int updated = statusTransitioner.transition(ids, to);
+                System.out.println("Quiz wheel moved " + updated + " quizzes to " + to);
+            } catch (RuntimeException e) {
+                System.err.println("Quiz wheel transition to " + to + " failed, reconciler will retry: " + e.getMessage());
+            }
+        }
+    }
+
+    int size() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private void scheduleIfWithin(Transition transition, LocalDateTime at, long untilMillis) {
+        long atMillis = toMillis(at);
+        if (atMillis <= untilMillis) {
+            wheel.schedule(transition, atMillis);
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
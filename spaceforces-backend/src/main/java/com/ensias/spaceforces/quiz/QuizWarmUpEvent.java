@@ -0,0 +1,8 @@
+package com.ensias.spaceforces.quiz;
+
+/**
+ * Published shortly before a quiz starts so per-quiz caches can be staged ahead of
+ * the CREATED -> LIVE transition.
+ */
+public record QuizWarmUpEvent(Long quizId) {
+}
@@ -0,0 +1,54 @@
+package com.ensias.spaceforces.quiz;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes a QuizWarmUpEvent once for every CREATED quiz starting within
+ * quiz.warmup.lead-seconds, so answer keys, payloads and leaderboards are
+ * already loaded when the quiz goes LIVE.
+ */
+@Component
+public class QuizWarmUpService {
+
+    private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long leadSeconds;
+    private final Set<Long> warmed = ConcurrentHashMap.newKeySet();
+
+    public QuizWarmUpService(QuizRepository quizRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${quiz.warmup.lead-seconds:60}") long leadSeconds) {
+        this.quizRepository = quizRepository;
+        this.eventPublisher = eventPublisher;
+        this.leadSeconds = leadSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.warmup.poll-ms:5000}")
+    public void warmUpStartingQuizzes() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> starting = quizRepository.findIdsByStatusAndStartBetween(
+                QuizStatus.CREATED, now, now.plusSeconds(leadSeconds));
+        // Quizzes that started or were deleted leave the window and are forgotten
+        warmed.retainAll(starting);
+
+        for (Long quizId : starting) {
+            if (warmed.add(quizId)) {
+                try {
+                    eventPublisher.publishEvent(new QuizWarmUpEvent(quizId));
+                    System.out.println("Quiz " + quizId + " warmed up ahead of its start");
+                } catch (RuntimeException e) {
+                    warmed.remove(quizId);
+                    System.err.println("Warm-up of quiz " + quizId + " failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ensias.spaceforces.quiz.dto;
+
+import com.ensias.spaceforces.question.dto.ParticipantQuestionDTO;
+import com.ensias.spaceforces.quiz.QuizMode;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Quiz as shown to participants: no correct option or validity flags, so the
+ * payload can be shared by caches outside the application.
+ */
+@Data
+public class ParticipantQuizDTO {
+    private Long id;
+    private String title;
+    private String description;
+    private String difficulty;
+    private String topic;
+    private String createdBy;
+    private LocalDateTime startDateTime;
+    private int duration;
+    private QuizStatus status;
+    private QuizMode mode;
+    private List<ParticipantQuestionDTO> questions;
+}
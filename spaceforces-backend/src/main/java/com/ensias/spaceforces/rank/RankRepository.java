@@ -1,12 +1,20 @@
 package com.ensias.spaceforces.rank;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 
 @Repository
 public interface RankRepository extends JpaRepository<Rank, Long> {
     Optional<Rank> findTopByMinPointsLessThanEqualOrderByMinPointsDesc(int points);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Rank> findAll();
 }
\ No newline at end of file
@@ -1,10 +1,18 @@
 package com.ensias.spaceforces.rank;
 
 import com.ensias.spaceforces.rank.dto.RankDTO;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -13,6 +21,36 @@ public class RankService {
 
     private final RankRepository rankRepository;
 
+    private volatile RankTable rankTable = new RankTable(Collections.emptyNavigableMap(), null);
+
+    // Local edits rebuild the table at once; the periodic reload picks up edits made on other instances
+    @PostConstruct
+    @Scheduled(initialDelayString = "${ranks.refresh-ms:60000}", fixedDelayString = "${ranks.refresh-ms:60000}")
+    public void refreshRanks() {
+        List<Rank> ranks = rankRepository.findAll();
+        NavigableMap<Integer, Rank> byMinPoints = new TreeMap<>();
+        for (Rank rank : ranks) {
+            byMinPoints.put(rank.getMinPoints(), rank);
+        }
+        Rank defaultRank = ranks.stream().min(Comparator.comparing(Rank::getId)).orElse(null);
+        rankTable = new RankTable(Collections.unmodifiableNavigableMap(byMinPoints), defaultRank);
+    }
+
+    /**
+     * Highest rank whose minimum is at or below {@code points}, resolved from memory.
+     */
+    public Optional<Rank> resolveRank(int points) {
+        Map.Entry<Integer, Rank> entry = rankTable.byMinPoints().floorEntry(points);
+        return entry == null ? Optional.empty() : Optional.of(entry.getValue());
+    }
+
+    /**
+     * Rank given to newly registered users: the first one created.
+     */
+    public Optional<Rank> getDefaultRank() {
+        return Optional.ofNullable(rankTable.defaultRank());
+    }
+
     public RankDTO createRank(RankDTO rankDTO) {
         validatePoints(rankDTO);
 
@@ -23,6 +61,7 @@ public class RankService {
         rank.setMaxPoints(rankDTO.getMaxPoints());
 
         Rank savedRank = rankRepository.save(rank);
+        refreshRanks();
         return convertToDTO(savedRank);
     }
 
@@ -50,11 +89,13 @@ public class RankService {
         rank.setMaxPoints(rankDTO.getMaxPoints());
 
         Rank updatedRank = rankRepository.save(rank);
+        refreshRanks();
         return convertToDTO(updatedRank);
     }
 
     public void deleteRank(Long id) {
         rankRepository.deleteById(id);
+        refreshRanks();
     }
 
     private void validatePoints(RankDTO rankDTO) {
@@ -80,4 +121,7 @@ public class RankService {
         dto.setMaxPoints(rank.getMaxPoints());
         return dto;
     }
-}
\ No newline at end of file
+
+    private record RankTable(NavigableMap<Integer, Rank> byMinPoints, Rank defaultRank) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.ensias.spaceforces.stat;
+
+import com.ensias.spaceforces.quiz.QuizRepository;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import com.ensias.spaceforces.submission.SubmissionRepository;
+import com.ensias.spaceforces.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves /stats from a snapshot of COUNT queries refreshed on a fixed interval,
+ * so the endpoint cost does not depend on table sizes or request rate.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatService {
+
+    private final QuizRepository quizRepository;
+    private final UserRepository userRepository;
+    private final SubmissionRepository submissionRepository;
+
+    private volatile StatDTO snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${stats.refresh-ms:30000}", fixedDelayString = "${stats.refresh-ms:30000}")
+    public void refresh() {
+        snapshot = StatDTO.builder()
+                .quizes(quizRepository.count())
+                .users(userRepository.count())
+                .submissions(submissionRepository.count())
+                .upcomingquizes(quizRepository.countByStatus(QuizStatus.CREATED))
+                .build();
+    }
+
+    public StatDTO getStats() {
+        StatDTO current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,123 @@
+package com.ensias.spaceforces.submission;
+
+import com.ensias.spaceforces.exception.ResourceNotFoundException;
+import com.ensias.spaceforces.option.Option;
+import com.ensias.spaceforces.option.OptionRepository;
+import com.ensias.spaceforces.question.Question;
+import com.ensias.spaceforces.question.QuestionRepository;
+import com.ensias.spaceforces.quiz.Quiz;
+import com.ensias.spaceforces.quiz.QuizContentChangedEvent;
+import com.ensias.spaceforces.quiz.QuizRepository;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import com.ensias.spaceforces.quiz.QuizStatusChangedEvent;
+import com.ensias.spaceforces.quiz.QuizWarmUpEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class AnswerKeyCache {
+
+    private final QuestionRepository questionRepository;
+    private final OptionRepository optionRepository;
+    private final QuizRepository quizRepository;
+
+    private final Map<Long, QuizAnswerKey> keysByQuiz = new ConcurrentHashMap<>();
+    private final Map<Long, QuizAnswerKey> keysByQuestion = new ConcurrentHashMap<>();
+    // Built by the warm-up but not used for grading until the quiz is LIVE
+    private final Map<Long, QuizAnswerKey> staged = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLiveQuizzes() {
+        for (Quiz quiz : quizRepository.findByStatus(QuizStatus.LIVE)) {
+            load(quiz.getId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizStatusChanged(QuizStatusChangedEvent event) {
+        if (event.status() == QuizStatus.LIVE && isLive(event.quizId())) {
+            // Staged by the warm-up and kept current by content events since
+            QuizAnswerKey stagedKey = staged.remove(event.quizId());
+            if (stagedKey != null) {
+                activate(stagedKey);
+            } else if (!keysByQuiz.containsKey(event.quizId())) {
+                load(event.quizId());
+            }
+        } else {
+            evict(event.quizId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizWarmUp(QuizWarmUpEvent event) {
+        staged.put(event.quizId(), build(event.quizId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        if (keysByQuiz.containsKey(event.quizId())) {
+            load(event.quizId());
+        } else if (staged.containsKey(event.quizId())) {
+            staged.put(event.quizId(), build(event.quizId()));
+        }
+    }
+
+    public Optional<QuizAnswerKey> findByQuestionId(Long questionId) {
+        if (questionId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(keysByQuestion.get(questionId));
+    }
+
+    public void load(Long quizId) {
+        activate(build(quizId));
+    }
+
+    private QuizAnswerKey build(Long quizId) {
+        Quiz quiz = quizRepository.findById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
+        List<Question> questions = questionRepository.findByQuizId(quizId);
+        List<Option> options = optionRepository.findByQuestionQuizId(quizId);
+        QuizAnswerKey answerKey = QuizAnswerKey.of(quizId, quiz.getStartDateTime(),
+                quiz.getStartDateTime().plusMinutes(quiz.getDuration()), questions, options);
+        System.out.println("Answer key for quiz " + quizId + " built (" + questions.size() + " questions)");
+        return answerKey;
+    }
+
+    private void activate(QuizAnswerKey answerKey) {
+        Long quizId = answerKey.getQuizId();
+        QuizAnswerKey previous = keysByQuiz.put(quizId, answerKey);
+        for (long questionId : answerKey.getQuestionIds()) {
+            keysByQuestion.put(questionId, answerKey);
+        }
+        if (previous != null) {
+            for (long questionId : previous.getQuestionIds()) {
+                keysByQuestion.remove(questionId, previous);
+            }
+        }
+    }
+
+    // A LIVE event can be handled after the quiz already moved on
+    private boolean isLive(Long quizId) {
+        return quizRepository.findStatusById(quizId).orElse(null) == QuizStatus.LIVE;
+    }
+
+    public void evict(Long quizId) {
+        staged.remove(quizId);
+        QuizAnswerKey previous = keysByQuiz.remove(quizId);
+        if (previous != null) {
+            for (long questionId : previous.getQuestionIds()) {
+                keysByQuestion.remove(questionId, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ensias.spaceforces.submission;
+
+import com.ensias.spaceforces.option.Option;
+import com.ensias.spaceforces.question.Question;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only grading snapshot of a LIVE quiz. Options are kept in parallel primitive
+ * arrays sorted by option id, so a lookup is a binary search with no boxing. The
+ * quiz's start and end are kept too, so answers outside that window are refused.
+ */
+public final class QuizAnswerKey {
+
+    public static final int NOT_AN_OPTION = -1;
+
+    private final long quizId;
+    private final LocalDateTime startsAt;
+    private final LocalDateTime endsAt;
+    private final long[] questionIds;
+    private final long[] optionIds;
+    private final long[] optionQuestionIds;
+    private final int[] optionPoints;
+
+    private QuizAnswerKey(long quizId, LocalDateTime startsAt, LocalDateTime endsAt, long[] questionIds,
+                          long[] optionIds, long[] optionQuestionIds, int[] optionPoints) {
+        this.quizId = quizId;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.questionIds = questionIds;
+        this.optionIds = optionIds;
+        this.optionQuestionIds = optionQuestionIds;
+        this.optionPoints = optionPoints;
+    }
+
+    public static QuizAnswerKey of(long quizId, LocalDateTime startsAt, LocalDateTime endsAt,
+                                   List<Question> questions, List<Option> options) {
+        Map<Long, Integer> pointsByQuestion = new HashMap<>();
+        for (Question question : questions) {
+            pointsByQuestion.put(question.getId(), question.getPoints());
+        }
+        long[] questionIds = pointsByQuestion.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+
+        List<Option> sorted = options.stream()
+                .filter(option -> pointsByQuestion.containsKey(option.getQuestion().getId()))
+                .sorted(Comparator.comparing(Option::getId))
+                .toList();
+        long[] optionIds = new long[sorted.size()];
+        long[] optionQuestionIds = new long[sorted.size()];
+        int[] optionPoints = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            Option option = sorted.get(i);
+            Long questionId = option.getQuestion().getId();
+            optionIds[i] = option.getId();
+            optionQuestionIds[i] = questionId;
+            optionPoints[i] = option.isValid() ? pointsByQuestion.get(questionId) : 0;
+        }
+        return new QuizAnswerKey(quizId, startsAt, endsAt, questionIds, optionIds, optionQuestionIds, optionPoints);
+    }
+
+    public long getQuizId() {
+        return quizId;
+    }
+
+    public boolean isOpenAt(LocalDateTime time) {
+        return !time.isBefore(startsAt) && time.isBefore(endsAt);
+    }
+
+    public long[] getQuestionIds() {
+        return questionIds.clone();
+    }
+
+    public boolean containsQuestion(long questionId) {
+        return Arrays.binarySearch(questionIds, questionId) >= 0;
+    }
+
+    /**
+     * Points awarded for answering {@code questionId} with {@code optionId}, or
+     * {@link #NOT_AN_OPTION} if the option does not belong to that question.
+     */
+    public int pointsFor(long questionId, long optionId) {
+        int index = Arrays.binarySearch(optionIds, optionId);
+        if (index < 0 || optionQuestionIds[index] != questionId) {
+            return NOT_AN_OPTION;
+        }
+        return optionPoints[index];
+    }
+}
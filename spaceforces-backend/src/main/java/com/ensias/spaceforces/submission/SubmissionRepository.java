@@ -1,8 +1,11 @@
 package com.ensias.spaceforces.submission;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,5 +15,9 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
     List<Submission> findByUserIdAndQuestionQuizId(Long userId, Long quizId);
     boolean existsByUserIdAndQuestionId(Long userId, Long questionId);
 
+    @Query("select s.question.id from Submission s where s.user.id = :userId and s.question.id in :questionIds")
+    List<Long> findSubmittedQuestionIds(@Param("userId") Long userId,
+                                        @Param("questionIds") Collection<Long> questionIds);
+
 }
 
@@ -2,6 +2,7 @@ package com.ensias.spaceforces.submission;
 
 import com.ensias.spaceforces.contestparticipation.ContestParticipation;
 import com.ensias.spaceforces.contestparticipation.ContestParticipationRepository;
+import com.ensias.spaceforces.contestparticipation.ContestScoreChangedEvent;
 import com.ensias.spaceforces.exception.BadRequestException;
 import com.ensias.spaceforces.exception.ResourceNotFoundException;
 import com.ensias.spaceforces.option.Option;
@@ -13,19 +14,28 @@ import com.ensias.spaceforces.quiz.QuizRepository;
 import com.ensias.spaceforces.quiz.QuizService;
 import com.ensias.spaceforces.quiz.QuizStatus;
 import com.ensias.spaceforces.rank.Rank;
-import com.ensias.spaceforces.rank.RankRepository;
+import com.ensias.spaceforces.rank.RankService;
 import com.ensias.spaceforces.submission.dto.QuizSubmissionRequest;
 import com.ensias.spaceforces.submission.dto.SubmissionDTO;
 import com.ensias.spaceforces.user.User;
+import com.ensias.spaceforces.user.UserPointsChangedEvent;
 import com.ensias.spaceforces.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,7 +48,9 @@ public class SubmissionService {
     private final QuestionRepository questionRepository;
     private final OptionRepository optionRepository;
     private final ContestParticipationRepository participationRepository;
-    private final RankRepository rankRepository;
+    private final RankService rankService;
+    private final AnswerKeyCache answerKeyCache;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public List<SubmissionDTO> getAllSubmissions() {
@@ -81,89 +93,210 @@ public class SubmissionService {
 
     @Transactional
     public ContestParticipation processQuizSubmission(QuizSubmissionRequest request, Long idUser) {
-        Long quizId = validateSameQuiz(request.getSubmissions());
+        List<QuizSubmissionRequest.QuestionSubmission> answers = request.getSubmissions();
+        if (answers == null || answers.isEmpty()) {
+            throw new BadRequestException("Submission must contain at least one answer");
+        }
+
+        Optional<QuizAnswerKey> answerKey = answerKeyCache.findByQuestionId(answers.get(0).getQuestionId());
+        if (answerKey.isPresent() && coversAllQuestions(answerKey.get(), answers)) {
+            return gradeWithAnswerKey(answerKey.get(), answers, idUser);
+        }
+
+        Map<Long, Question> questions = loadQuestions(answers);
+        Quiz quiz = validateSameQuiz(questions.values());
+        validateNotAlreadySubmitted(idUser, answers);
+        Map<Long, Option> options = loadOptions(answers);
+
+        User user = userRepository.getReferenceById(idUser);
+        LocalDateTime completionTime = LocalDateTime.now();
 
+        List<Submission> submissions = new ArrayList<>(answers.size());
         int totalScore = 0;
-        for (QuizSubmissionRequest.QuestionSubmission qs : request.getSubmissions()) {
-            Submission submission = processSingleSubmission(idUser, qs);
-            totalScore += submission.getScore();
+        for (QuizSubmissionRequest.QuestionSubmission qs : answers) {
+            Question question = questions.get(qs.getQuestionId());
+            Option option = options.get(qs.getOptionId());
+            int score = option.isValid() ? question.getPoints() : 0;
+
+            submissions.add(newSubmission(user, question, option, score, completionTime));
+            totalScore += score;
         }
 
-        return updateParticipationScore(idUser, quizId, totalScore, LocalDateTime.now());
+        return saveResults(user, quiz, submissions, totalScore, completionTime);
     }
 
-    private Submission processSingleSubmission(Long userId, QuizSubmissionRequest.QuestionSubmission qs) {
-        if (submissionRepository.existsByUserIdAndQuestionId(userId, qs.getQuestionId())) {
-            throw new BadRequestException("User already submitted answer for question: " + qs.getQuestionId());
+    /**
+     * Grades against the in-memory answer key of a LIVE quiz: the question and option
+     * tables are not read, rows are written through id references.
+     */
+    private ContestParticipation gradeWithAnswerKey(QuizAnswerKey answerKey,
+                                                    List<QuizSubmissionRequest.QuestionSubmission> answers,
+                                                    Long idUser) {
+        LocalDateTime completionTime = LocalDateTime.now();
+        if (!answerKey.isOpenAt(completionTime)) {
+            throw new BadRequestException("Quiz " + answerKey.getQuizId() + " is not open for submissions");
+        }
+        // The key can outlive the quiz on this instance when another one closed it
+        QuizStatus status = quizRepository.findStatusById(answerKey.getQuizId()).orElse(null);
+        if (status != QuizStatus.LIVE) {
+            answerKeyCache.evict(answerKey.getQuizId());
+            throw new BadRequestException("Quiz is not Live! Current status: " + status);
         }
+        validateNoDuplicateQuestions(answers);
+        validateNotAlreadySubmitted(idUser, answers);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        Question question = questionRepository.findById(qs.getQuestionId())
-                .orElseThrow(() -> new ResourceNotFoundException("Question not found: " + qs.getQuestionId()));
-        Option option = optionRepository.findById(qs.getOptionId())
-                .orElseThrow(() -> new ResourceNotFoundException("Option not found: " + qs.getOptionId()));
+        int[] scores = new int[answers.size()];
+        for (int i = 0; i < answers.size(); i++) {
+            QuizSubmissionRequest.QuestionSubmission qs = answers.get(i);
+            int points = answerKey.pointsFor(qs.getQuestionId(), qs.getOptionId());
+            if (points == QuizAnswerKey.NOT_AN_OPTION) {
+                throw new BadRequestException("Option " + qs.getOptionId() + " does not belong to question: " + qs.getQuestionId());
+            }
+            scores[i] = points;
+        }
 
-        int score = option.isValid() ? question.getPoints() : 0;
+        User user = userRepository.getReferenceById(idUser);
 
+        List<Submission> submissions = new ArrayList<>(answers.size());
+        int totalScore = 0;
+        for (int i = 0; i < answers.size(); i++) {
+            QuizSubmissionRequest.QuestionSubmission qs = answers.get(i);
+            submissions.add(newSubmission(user,
+                    questionRepository.getReferenceById(qs.getQuestionId()),
+                    optionRepository.getReferenceById(qs.getOptionId()),
+                    scores[i], completionTime));
+            totalScore += scores[i];
+        }
+
+        return saveResults(user, quizRepository.getReferenceById(answerKey.getQuizId()),
+                submissions, totalScore, completionTime);
+    }
+
+    private boolean coversAllQuestions(QuizAnswerKey answerKey, List<QuizSubmissionRequest.QuestionSubmission> answers) {
+        return answers.stream().allMatch(qs -> qs.getQuestionId() != null && answerKey.containsQuestion(qs.getQuestionId()));
+    }
+
+    private Submission newSubmission(User user, Question question, Option option, int score, LocalDateTime completionTime) {
         Submission submission = new Submission();
         submission.setUser(user);
         submission.setQuestion(question);
         submission.setOption(option);
         submission.setScore(score);
-        submission.setCompletionTime(LocalDateTime.now());
+        submission.setCompletionTime(completionTime);
+        return submission;
+    }
+
+    private Set<Long> validateNoDuplicateQuestions(List<QuizSubmissionRequest.QuestionSubmission> answers) {
+        Set<Long> questionIds = new LinkedHashSet<>();
+        for (QuizSubmissionRequest.QuestionSubmission qs : answers) {
+            if (!questionIds.add(qs.getQuestionId())) {
+                throw new BadRequestException("User already submitted answer for question: " + qs.getQuestionId());
+            }
+        }
+        return questionIds;
+    }
 
-        return submissionRepository.save(submission);
+    private Map<Long, Question> loadQuestions(List<QuizSubmissionRequest.QuestionSubmission> answers) {
+        Set<Long> questionIds = validateNoDuplicateQuestions(answers);
+
+        Map<Long, Question> questions = questionRepository.findAllById(questionIds).stream()
+                .collect(Collectors.toMap(Question::getId, Function.identity()));
+        for (Long questionId : questionIds) {
+            if (!questions.containsKey(questionId)) {
+                throw new ResourceNotFoundException("Question not found: " + questionId);
+            }
+        }
+        return questions;
+    }
+
+    private Map<Long, Option> loadOptions(List<QuizSubmissionRequest.QuestionSubmission> answers) {
+        Set<Long> optionIds = answers.stream()
+                .map(QuizSubmissionRequest.QuestionSubmission::getOptionId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Option> options = optionRepository.findAllById(optionIds).stream()
+                .collect(Collectors.toMap(Option::getId, Function.identity()));
+        for (QuizSubmissionRequest.QuestionSubmission qs : answers) {
+            Option option = options.get(qs.getOptionId());
+            if (option == null) {
+                throw new ResourceNotFoundException("Option not found: " + qs.getOptionId());
+            }
+            if (!option.getQuestion().getId().equals(qs.getQuestionId())) {
+                throw new BadRequestException("Option " + qs.getOptionId() + " does not belong to question: " + qs.getQuestionId());
+            }
+        }
+        return options;
     }
 
-    private ContestParticipation updateParticipationScore(Long userId, Long quizId, int totalScore, LocalDateTime completionTime) {
+    private void validateNotAlreadySubmitted(Long userId, List<QuizSubmissionRequest.QuestionSubmission> answers) {
+        List<Long> questionIds = answers.stream()
+                .map(QuizSubmissionRequest.QuestionSubmission::getQuestionId)
+                .toList();
+        Set<Long> alreadySubmitted = new HashSet<>(
+                submissionRepository.findSubmittedQuestionIds(userId, questionIds));
+
+        for (Long questionId : questionIds) {
+            if (alreadySubmitted.contains(questionId)) {
+                throw new BadRequestException("User already submitted answer for question: " + questionId);
+            }
+        }
+    }
+
+    /**
+     * Writes the graded answers against id references: the user row is only touched by the
+     * points and rank UPDATEs, never loaded, so the user and quiz are passed on as proxies.
+     */
+    private ContestParticipation saveResults(User user, Quiz quiz, List<Submission> submissions,
+                                             int totalScore, LocalDateTime completionTime) {
+        Long userId = user.getId();
+        // Runs first so an unknown user is a 404 rather than a foreign key violation
+        int newPoints = userRepository.addPoints(userId, totalScore);
+        submissionRepository.saveAll(submissions);
+
         ContestParticipation participation = participationRepository
-                .findByUserIdAndQuizId(userId, quizId)
+                .findByUserIdAndQuizId(userId, quiz.getId())
                 .orElseGet(() -> {
                     ContestParticipation newParticipation = new ContestParticipation();
-                    newParticipation.setUser(userRepository.findById(userId).get());
-                    newParticipation.setQuiz(quizRepository.findById(quizId).get());
+                    newParticipation.setUser(user);
+                    newParticipation.setQuiz(quiz);
                     return newParticipation;
                 });
 
         participation.setScore(totalScore);
         participation.setCompletionTime(completionTime);
 
-
-        User user = userRepository.findById(userId).orElseThrow();
-        user.setPoints(user.getPoints() + totalScore);
-        checkAndUpdateUserRank(user, user.getPoints());
-        userRepository.save(user);
-
-        return participationRepository.save(participation);
-    }
-    private void checkAndUpdateUserRank(User user, int newPoints) {
-        Optional<Rank> newRank = rankRepository.findTopByMinPointsLessThanEqualOrderByMinPointsDesc(newPoints);
-
-        if (newRank.isPresent() &&
-                (user.getRank() == null || !newRank.get().getId().equals(user.getRank().getId()))) {
-            user.setRank(newRank.get());
+        eventPublisher.publishEvent(new UserPointsChangedEvent(userId, newPoints));
+        Optional<Rank> newRank = rankService.resolveRank(newPoints);
+        // Only a threshold crossing can change the rank; the UPDATE itself skips users already holding it
+        if (newRank.isPresent() && !newRank.equals(rankService.resolveRank(newPoints - totalScore))) {
+            userRepository.updateRank(userId, newRank.get());
         }
+        if (Hibernate.isInitialized(user)) {
+            // Keeps a user already loaded in this persistence context in step with the UPDATEs
+            user.setPoints(newPoints);
+            newRank.ifPresent(user::setRank);
+        }
+
+        ContestParticipation saved = participationRepository.save(participation);
+        eventPublisher.publishEvent(new ContestScoreChangedEvent(quiz.getId(), userId,
+                userRepository.findUsernameById(userId).orElse(null), totalScore, completionTime));
+        return saved;
     }
-    private Long validateSameQuiz(List<QuizSubmissionRequest.QuestionSubmission> submissions) {
-        Set<Long> quizIds = submissions.stream()
-                .map(qs -> questionRepository.findById(qs.getQuestionId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Question not found: " + qs.getQuestionId()))
-                        .getQuiz().getId())
+    private Quiz validateSameQuiz(Collection<Question> questions) {
+        Set<Long> quizIds = questions.stream()
+                .map(question -> question.getQuiz().getId())
                 .collect(Collectors.toSet());
 
         if (quizIds.size() != 1) {
             throw new BadRequestException("All questions must be from the same quiz");
         }
-        Long quizId = quizIds.iterator().next();
-        Quiz quiz = quizRepository.findById(quizId)
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found: " + quizId));
+        Quiz quiz = questions.iterator().next().getQuiz();
 
         if (!((QuizStatus.LIVE).equals(quiz.getStatus()))) {
             throw new BadRequestException("Quiz is not Live! Current status: " + quiz.getStatus());
         }
 
-        return quizId;
+        return quiz;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.ensias.spaceforces.user;
+
+import com.ensias.spaceforces.exception.ResourceNotFoundException;
+import com.ensias.spaceforces.user.dto.GlobalStandingDTO;
+import com.ensias.spaceforces.utils.OrderStatisticTree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory global ordering of users (points desc, id asc) so a user's position
+ * is answered in O(log n) instead of counting app_users. Kept current from
+ * UserPointsChangedEvent and fully rebuilt periodically to pick up changes made
+ * through other instances.
+ */
+@Service
+@RequiredArgsConstructor
+public class GlobalRankingService {
+
+    private record Standing(Long userId, int points) {
+    }
+
+    private static final Comparator<Standing> ORDER = Comparator
+            .comparingInt(Standing::points).reversed()
+            .thenComparing(Standing::userId);
+
+    private final UserRepository userRepository;
+
+    private OrderStatisticTree<Standing> standings = new OrderStatisticTree<>(ORDER);
+    private Map<Long, Standing> standingsByUser = new HashMap<>();
+    // Changes seen while a rebuild reads app_users, replayed on top of the rows it read
+    private Map<Long, Standing> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${ranking.global.refresh-ms:300000}",
+            fixedDelayString = "${ranking.global.refresh-ms:300000}")
+    public void rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = new HashMap<>();
+        }
+        List<Object[]> rows = userRepository.findAllPoints();
+        OrderStatisticTree<Standing> tree = new OrderStatisticTree<>(ORDER);
+        Map<Long, Standing> byUser = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            Standing standing = new Standing((Long) row[0], (Integer) row[1]);
+            tree.add(standing);
+            byUser.put(standing.userId(), standing);
+        }
+        synchronized (this) {
+            standings = tree;
+            standingsByUser = byUser;
+            Map<Long, Standing> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            changed.values().forEach(this::apply);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPointsChanged(UserPointsChangedEvent event) {
+        Standing standing = new Standing(event.userId(), event.points());
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(standing.userId(), standing);
+        }
+        apply(standing);
+    }
+
+    private void apply(Standing standing) {
+        Standing previous = standingsByUser.put(standing.userId(), standing);
+        if (previous != null) {
+            standings.remove(previous);
+        }
+        standings.add(standing);
+    }
+
+    public synchronized GlobalStandingDTO getStanding(Long userId) {
+        Standing standing = standingsByUser.get(userId);
+        if (standing == null) {
+            throw new ResourceNotFoundException("User not found: " + userId);
+        }
+        return new GlobalStandingDTO(userId, standing.points(), standings.indexOf(standing) + 1, standings.size());
+    }
+}
@@ -2,6 +2,7 @@ package com.ensias.spaceforces.user;
 
 import com.ensias.spaceforces.rank.Rank;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,8 +13,10 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "app_users")
+@Table(name = "app_users",
+        indexes = @Index(name = "idx_app_users_points_id", columnList = "points DESC, id"))
 @Data
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,11 +35,11 @@ public class User {
     @Column(name = "is_admin", nullable = false)
     private boolean isAdmin;
 
-    @ManyToOne
-    @JoinColumn(name = "rank_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "rank_id", updatable = false)
     private Rank rank;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int points=0;
 
     @Column
@@ -2,7 +2,9 @@ package com.ensias.spaceforces.user;
 
 import com.ensias.spaceforces.user.config.CustomUserDetails;
 import com.ensias.spaceforces.user.dto.RegistrationDTO;
+import com.ensias.spaceforces.user.dto.GlobalStandingDTO;
 import com.ensias.spaceforces.user.dto.UserDTO;
+import com.ensias.spaceforces.user.dto.UserLeaderboardPageDTO;
 import com.ensias.spaceforces.exception.EmailTakenException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
@@ -22,9 +24,11 @@ import java.util.Map;
 @RestController()
 public class UserController {
     private final UserService userService;
+    private final GlobalRankingService globalRankingService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, GlobalRankingService globalRankingService) {
         this.userService = userService;
+        this.globalRankingService = globalRankingService;
     }
 
 
@@ -88,14 +92,36 @@ public ResponseEntity<?> login(@RequestBody @Valid LoginDTO loginDTO) {
 
 
     @GetMapping("/all-users")
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
+    public ResponseEntity<List<UserDTO>> getAllUsers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
         return new ResponseEntity<>(
-                userService.getAllUsers(),
+                userService.getAllUsers(page, size),
                 HttpStatus.OK
         );
     }
 
 
+    @GetMapping("/leaderboard")
+    public ResponseEntity<UserLeaderboardPageDTO> getLeaderboard(
+            @RequestParam(required = false) Integer afterPoints,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(userService.getLeaderboardPage(afterPoints, afterId, size));
+    }
+
+    @GetMapping("/leaderboard/me")
+    public ResponseEntity<GlobalStandingDTO> getMyGlobalStanding() {
+        CustomUserDetails userDetails = userService.auth();
+        return ResponseEntity.ok(globalRankingService.getStanding(userDetails.getId()));
+    }
+
+    @GetMapping("/leaderboard/user/{userId}")
+    public ResponseEntity<GlobalStandingDTO> getGlobalStanding(@PathVariable Long userId) {
+        return ResponseEntity.ok(globalRankingService.getStanding(userId));
+    }
+
+
     @PutMapping("/user/{userId}/make-admin")
     public ResponseEntity<?> makeUserAdmin(@PathVariable Long userId) {
         try {
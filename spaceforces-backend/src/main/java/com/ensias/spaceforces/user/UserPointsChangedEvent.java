@@ -0,0 +1,4 @@
+package com.ensias.spaceforces.user;
+
+public record UserPointsChangedEvent(Long userId, int points) {
+}
@@ -1,8 +1,15 @@
 package com.ensias.spaceforces.user;
 
+import com.ensias.spaceforces.exception.ResourceNotFoundException;
+import com.ensias.spaceforces.rank.Rank;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +17,45 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
+
+    @Query("select u from User u left join fetch u.rank order by u.points desc, u.id asc")
+    List<User> findAllByPointsRanking(Pageable pageable);
+
+    @Query("select u from User u left join fetch u.rank order by u.points desc, u.id asc")
+    List<User> findLeaderboardFirstPage(Pageable pageable);
+
+    @Query("select u from User u left join fetch u.rank " +
+            "where u.points < :points or (u.points = :points and u.id > :id) " +
+            "order by u.points desc, u.id asc")
+    List<User> findLeaderboardPageAfter(@Param("points") int points, @Param("id") Long id, Pageable pageable);
+
+    @Query("select u.id, u.points from User u")
+    List<Object[]> findAllPoints();
+
+    @Modifying(flushAutomatically = true)
+    @Query("update User u set u.points = u.points + :delta where u.id = :userId")
+    int incrementPoints(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Query("select u.points from User u where u.id = :userId")
+    Optional<Integer> findPointsById(@Param("userId") Long userId);
+
+    @Query("select u.username from User u where u.id = :userId")
+    Optional<String> findUsernameById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update User u set u.rank = :rank where u.id = :userId and (u.rank is null or u.rank <> :rank)")
+    int updateRank(@Param("userId") Long userId, @Param("rank") Rank rank);
+
+    /**
+     * Adds {@code delta} to the user's points in a single UPDATE and returns the new total.
+     * The row lock taken by the UPDATE is held until commit, so the follow-up read sees
+     * exactly this transaction's result even under concurrent submissions.
+     */
+    default int addPoints(Long userId, int delta) {
+        if (incrementPoints(userId, delta) == 0) {
+            throw new ResourceNotFoundException("User not found: " + userId);
+        }
+        return findPointsById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
+    }
 }
\ No newline at end of file
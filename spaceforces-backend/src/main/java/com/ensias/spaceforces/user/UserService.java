@@ -3,14 +3,19 @@ import com.ensias.spaceforces.rank.Rank;
 import com.ensias.spaceforces.rank.dto.RankDTO;
 import com.ensias.spaceforces.exception.UserNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import com.ensias.spaceforces.rank.RankRepository;
+import com.ensias.spaceforces.rank.RankService;
 import com.ensias.spaceforces.user.config.CustomUserDetails;
 import com.ensias.spaceforces.user.dto.LoginDTO;
 import com.ensias.spaceforces.user.dto.RegistrationDTO;
 import com.ensias.spaceforces.user.dto.UserDTO;
+import com.ensias.spaceforces.user.dto.UserLeaderboardPageDTO;
+import com.ensias.spaceforces.exception.BadRequestException;
 import com.ensias.spaceforces.exception.EmailTakenException;
 import com.ensias.spaceforces.utils.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,7 +24,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,7 +35,10 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     protected final JwtTokenProvider jwtTokenProvider;
-    private final RankRepository rankRepository;
+    private final RankService rankService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_LEADERBOARD_PAGE_SIZE = 100;
 
     public CustomUserDetails auth() {
         return (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -45,8 +52,7 @@ public class UserService {
         }
 
         // Get the default rank (first one in the database)
-        Rank defaultRank = rankRepository.findAll()
-                .stream().min(Comparator.comparing(Rank::getId))
+        Rank defaultRank = rankService.getDefaultRank()
                 .orElseThrow(() -> new IllegalStateException("No ranks found in the system"));
 
         User newUser = new User();
@@ -58,6 +64,7 @@ public class UserService {
         newUser.setDescription(registrationDTO.getDescription());
         newUser.setPoints(0);
         userRepository.save(newUser);
+        eventPublisher.publishEvent(new UserPointsChangedEvent(newUser.getId(), 0));
     }
 
     public String login(LoginDTO loginDTO) {
@@ -110,13 +117,35 @@ public class UserService {
         return rankDto;
     }
 
-    public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
+    @Transactional(readOnly = true)
+    public List<UserDTO> getAllUsers(int page, int size) {
+        if (page < 0) {
+            throw new BadRequestException("page must not be negative");
+        }
+        Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, MAX_LEADERBOARD_PAGE_SIZE)));
+        return userRepository.findAllByPointsRanking(pageable).stream()
                 .map(this::mapToDto)
-                .sorted(Comparator.comparingInt(UserDTO::getPoints).reversed())
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public UserLeaderboardPageDTO getLeaderboardPage(Integer afterPoints, Long afterId, int size) {
+        if ((afterPoints == null) != (afterId == null)) {
+            throw new BadRequestException("afterPoints and afterId must be given together");
+        }
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_LEADERBOARD_PAGE_SIZE)));
+        List<User> users = afterId == null
+                ? userRepository.findLeaderboardFirstPage(limit)
+                : userRepository.findLeaderboardPageAfter(afterPoints, afterId, limit);
+
+        List<UserDTO> page = users.stream().map(this::mapToDto).collect(Collectors.toList());
+        if (users.size() < limit.getPageSize()) {
+            return new UserLeaderboardPageDTO(page, null, null);
+        }
+        User last = users.get(users.size() - 1);
+        return new UserLeaderboardPageDTO(page, last.getPoints(), last.getId());
+    }
+
 
     @Transactional
     public void makeUserAdmin(Long userId) {
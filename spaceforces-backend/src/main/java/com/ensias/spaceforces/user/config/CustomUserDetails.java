@@ -28,6 +28,12 @@ public class CustomUserDetails implements UserDetails {
         this.isAdmin = user.isAdmin();
     }
 
+    public CustomUserDetails(Long id, String email, boolean isAdmin) {
+        this.id = id;
+        this.email = email;
+        this.isAdmin = isAdmin;
+    }
+
     @Override
     public String getUsername() {
         return email;
@@ -0,0 +1,15 @@
+package com.ensias.spaceforces.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GlobalStandingDTO {
+    private Long userId;
+    private int points;
+    private int position;
+    private int totalUsers;
+}
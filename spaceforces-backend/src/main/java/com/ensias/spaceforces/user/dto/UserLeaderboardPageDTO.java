@@ -0,0 +1,17 @@
+package com.ensias.spaceforces.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLeaderboardPageDTO {
+    private List<UserDTO> users;
+    // Cursor for the next page; both null on the last page.
+    private Integer nextAfterPoints;
+    private Long nextAfterId;
+}
@@ -0,0 +1,89 @@
+package com.ensias.spaceforces.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel: items are hashed into one of a fixed number of buckets by
+ * their deadline tick, so scheduling, cancelling and advancing one tick are O(1)
+ * amortised regardless of how many items are pending. Items further away than one
+ * revolution stay in their bucket until their round comes up. Each item is
+ * scheduled at most once; rescheduling replaces its deadline.
+ * Not thread-safe; callers synchronize.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final List<List<T>> buckets;
+    private final int mask;
+    private final Map<T, Long> deadlineTicks = new HashMap<>();
+    private long currentTick;
+
+    public HashedTimingWheel(long tickMillis, int bucketCount, long startMillis) {
+        if (tickMillis <= 0 || Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and bucketCount a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = bucketCount - 1;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /** Schedules {@code item} to expire at {@code deadlineMillis}; past deadlines expire on the next tick. */
+    public void schedule(T item, long deadlineMillis) {
+        long tick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Long previous = deadlineTicks.put(item, tick);
+        if (previous == null || previous != tick) {
+            buckets.get((int) (tick & mask)).add(item);
+        }
+    }
+
+    public boolean cancel(T item) {
+        return deadlineTicks.remove(item) != null;
+    }
+
+    public boolean contains(T item) {
+        return deadlineTicks.containsKey(item);
+    }
+
+    /** Advances the wheel to {@code nowMillis} and returns every item whose deadline has passed. */
+    public List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        if (targetTick <= currentTick) {
+            return expired;
+        }
+        // After a full revolution every bucket has been visited once, so skip ahead
+        long firstTick = Math.max(currentTick + 1, targetTick - mask);
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            Iterator<T> bucket = buckets.get((int) (tick & mask)).iterator();
+            while (bucket.hasNext()) {
+                T item = bucket.next();
+                Long deadline = deadlineTicks.get(item);
+                if (deadline == null) {
+                    bucket.remove();
+                } else if (deadline <= targetTick) {
+                    bucket.remove();
+                    deadlineTicks.remove(item);
+                    expired.add(item);
+                }
+            }
+        }
+        currentTick = targetTick;
+        return expired;
+    }
+
+    public int size() {
+        return deadlineTicks.size();
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+}
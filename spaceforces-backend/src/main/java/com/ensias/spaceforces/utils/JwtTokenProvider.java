@@ -1,7 +1,10 @@
 package com.ensias.spaceforces.utils;
 
 import com.ensias.spaceforces.user.config.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -10,7 +13,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.security.Key;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.Date;
@@ -24,6 +26,9 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:864000000}") // Default expiration of 10 days in milliseconds
     private long jwtExpirationDate;
 
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+
     @PostConstruct
     public void init() {
         // Generate a random secret key if not provided
@@ -31,6 +36,9 @@ public class JwtTokenProvider {
             System.out.println("Generating secret key...");
             jwtSecret = generateSecretKey();
         }
+        // Decoding the key and building the parser once; both are immutable and thread-safe
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -43,33 +51,37 @@ public class JwtTokenProvider {
                 .claim("isAdmin", userDetails.isAdmin())
                 .issuedAt(new Date())
                 .expiration(expireDate)
-                .signWith(key())
+                .signWith(secretKey)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    // verify signature and expiry, then return the claims; throws JwtException if invalid
+    public Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
-    // extract username from JWT token
-    public String getUsername(String token) {
-
-        return Jwts.parser()
-                .verifyWith((SecretKey) key())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    // build the authenticated principal from the token alone, without a user lookup
+    public CustomUserDetails getUserDetails(String token) {
+        return toUserDetails(parseClaims(token));
     }
 
+    public CustomUserDetails toUserDetails(Claims claims) {
+        Number userId = claims.get("userId", Number.class);
+        Boolean isAdmin = claims.get("isAdmin", Boolean.class);
+        if (userId == null) {
+            throw new MalformedJwtException("Token has no userId claim");
+        }
+        return new CustomUserDetails(userId.longValue(), claims.getSubject(), Boolean.TRUE.equals(isAdmin));
+    }
 
+    // extract username from JWT token
+    public String getUsername(String token) {
+        return parseClaims(token).getSubject();
+    }
 
     // validate JWT token
     public boolean validateToken(String token) {
-        Jwts.parser()
-                .verifyWith((SecretKey) key())
-                .build()
-                .parse(token);
+        parseClaims(token);
         return true;
     }
 
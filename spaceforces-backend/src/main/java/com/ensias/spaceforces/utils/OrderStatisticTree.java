@@ -0,0 +1,201 @@
+package com.ensias.spaceforces.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorted set with O(log n) insert, remove, rank and select, implemented as a
+ * size-augmented treap. Keys must be unique under the comparator.
+ * Not thread-safe; callers synchronize.
+ */
+public class OrderStatisticTree<K> {
+
+    private static final class Node<K> {
+        final K key;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node<K> left;
+        Node<K> right;
+        int size = 1;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    private final Comparator<? super K> comparator;
+    private Node<K> root;
+
+    public OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean add(K key) {
+        if (contains(key)) {
+            return false;
+        }
+        root = insert(root, key);
+        return true;
+    }
+
+    public boolean remove(K key) {
+        if (!contains(key)) {
+            return false;
+        }
+        root = delete(root, key);
+        return true;
+    }
+
+    public boolean contains(K key) {
+        Node<K> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Zero-based position of {@code key} in sort order, or -1 if absent.
+     */
+    public int indexOf(K key) {
+        Node<K> node = root;
+        int index = 0;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return index + size(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                index += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Key at zero-based position {@code index} in sort order.
+     */
+    public K get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        Node<K> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.key;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * First {@code limit} keys in sort order.
+     */
+    public List<K> head(int limit) {
+        List<K> result = new ArrayList<>(Math.min(Math.max(limit, 0), size()));
+        collect(root, result, limit);
+        return result;
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    private void collect(Node<K> node, List<K> result, int limit) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+        collect(node.left, result, limit);
+        if (result.size() < limit) {
+            result.add(node.key);
+            collect(node.right, result, limit);
+        }
+    }
+
+    private Node<K> insert(Node<K> node, K key) {
+        if (node == null) {
+            return new Node<>(key);
+        }
+        if (comparator.compare(key, node.key) < 0) {
+            node.left = insert(node.left, key);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, key);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<K> delete(Node<K> node, K key) {
+        int cmp = comparator.compare(key, node.key);
+        if (cmp < 0) {
+            node.left = delete(node.left, key);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, key);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = delete(node.right, key);
+            } else {
+                node = rotateLeft(node);
+                node.left = delete(node.left, key);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<K> rotateRight(Node<K> node) {
+        Node<K> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<K> rotateLeft(Node<K> node) {
+        Node<K> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<K> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ensias.spaceforces.utils;
+
+import com.ensias.spaceforces.user.config.CustomUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already verified bearer tokens, keyed by their signature and
+ * expiring at the token's own exp, so repeat requests skip HMAC verification
+ * and claim parsing. A hit still requires the full token to match. Caffeine
+ * evicts by size and per-entry expiry, so a full cache never costs a scan.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private record Entry(byte[] token, CustomUserDetails userDetails, long expiresAtMillis) {
+    }
+
+    private static final Expiry<String, Entry> UNTIL_TOKEN_EXPIRY = new Expiry<>() {
+        @Override
+        public long expireAfterCreate(String signature, Entry entry, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, entry.expiresAtMillis() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String signature, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(signature, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String signature, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    };
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(UNTIL_TOKEN_EXPIRY)
+                .build();
+        this.hits = Counter.builder("jwt.token.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jwt.token.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("jwt.token.cache.size", entries, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    /**
+     * Principal for {@code token}, verifying it only if it is not cached yet.
+     * Throws JwtException for invalid or expired tokens.
+     */
+    public CustomUserDetails getUserDetails(String token) {
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+
+        Entry entry = entries.getIfPresent(signature);
+        if (entry != null && MessageDigest.isEqual(entry.token(), tokenBytes)) {
+            hits.increment();
+            return entry.userDetails();
+        }
+        misses.increment();
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        CustomUserDetails userDetails = jwtTokenProvider.toUserDetails(claims);
+        if (claims.getExpiration() != null) {
+            entries.put(signature, new Entry(tokenBytes, userDetails, claims.getExpiration().getTime()));
+        }
+        return userDetails;
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+}
@@ -0,0 +1,18 @@
+-- Submission, Question, Option and ContestParticipation ids move from IDENTITY
+-- columns to pooled sequences (allocationSize = 50) so inserts can be batched.
+-- Idempotent: safe to run on every startup.
+
+CREATE SEQUENCE IF NOT EXISTS submission_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS questions_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS options_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contest_participation_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE submission ALTER COLUMN id_submission DROP IDENTITY IF EXISTS;
+ALTER TABLE questions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE options ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE contest_participation ALTER COLUMN id_participation DROP IDENTITY IF EXISTS;
+
+SELECT setval('submission_seq', GREATEST((SELECT last_value FROM submission_seq), (SELECT COALESCE(MAX(id_submission), 0) + 50 FROM submission)));
+SELECT setval('questions_seq', GREATEST((SELECT last_value FROM questions_seq), (SELECT COALESCE(MAX(id), 0) + 50 FROM questions)));
+SELECT setval('options_seq', GREATEST((SELECT last_value FROM options_seq), (SELECT COALESCE(MAX(id), 0) + 50 FROM options)));
+SELECT setval('contest_participation_seq', GREATEST((SELECT last_value FROM contest_participation_seq), (SELECT COALESCE(MAX(id_participation), 0) + 50 FROM contest_participation)));
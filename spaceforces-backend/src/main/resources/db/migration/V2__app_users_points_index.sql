@@ -0,0 +1,3 @@
+-- Global leaderboard keyset pagination orders by points DESC, id.
+
+CREATE INDEX IF NOT EXISTS idx_app_users_points_id ON app_users (points DESC, id);
@@ -0,0 +1,11 @@
+-- Quiz end time (start + duration minutes) for the status reconciler, plus the
+-- (status, time) indexes it scans. Hibernate adds the column; backfill old rows.
+
+ALTER TABLE quizzes ADD COLUMN IF NOT EXISTS end_date_time TIMESTAMP(6);
+
+UPDATE quizzes
+SET end_date_time = start_date_time + duration * INTERVAL '1 minute'
+WHERE end_date_time IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_quizzes_status_start ON quizzes (statut_quiz, start_date_time);
+CREATE INDEX IF NOT EXISTS idx_quizzes_status_end ON quizzes (statut_quiz, end_date_time);
@@ -2,6 +2,9 @@ package com.ensias.spaceforces;
 
 import com.ensias.spaceforces.config.TestCloudinaryConfig;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.hibernate.stat.SessionStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -11,6 +14,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
@@ -30,11 +37,77 @@ public abstract class BaseIntegrationTest {
             entityManager.createNativeQuery("ALTER TABLE rank ALTER COLUMN id RESTART WITH 1").executeUpdate();
             entityManager.createNativeQuery("ALTER TABLE app_users ALTER COLUMN id RESTART WITH 1").executeUpdate();
             entityManager.createNativeQuery("ALTER TABLE quizzes ALTER COLUMN id RESTART WITH 1").executeUpdate();
-            entityManager.createNativeQuery("ALTER TABLE questions ALTER COLUMN id RESTART WITH 1").executeUpdate();
-            entityManager.createNativeQuery("ALTER TABLE options ALTER COLUMN id RESTART WITH 1").executeUpdate();
             entityManager.createNativeQuery("ALTER TABLE contest_difficulty ALTER COLUMN id RESTART WITH 1").executeUpdate();
         } catch (Exception e) {
             System.err.println("Error resetting sequences: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * SQL issued while a call ran on the test's session. Rows are the entities and
+     * collections the call loaded into the persistence context.
+     */
+    protected record SqlStats(long statements, long rows, long slowestQueryMillis) {
+    }
+
+    @FunctionalInterface
+    protected interface SqlCall {
+        void run() throws Exception;
+    }
+
+    // Counts on the session rather than the session factory, so scheduled jobs running meanwhile are not included
+    private static class StatementCounter implements SessionEventListener {
+        private long statements;
+        private long executionStart;
+        private long slowestNanos;
+
+        @Override
+        public void jdbcPrepareStatementStart() {
+            statements++;
+        }
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            executionStart = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            slowestNanos = Math.max(slowestNanos, System.nanoTime() - executionStart);
+        }
+    }
+
+    /**
+     * Runs {@code call} from an empty persistence context (pending changes are flushed
+     * first) and returns the statements and rows it cost. MockMvc requests join the
+     * test transaction, so they run on the same session.
+     */
+    protected SqlStats measureSql(SqlCall call) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        Session session = entityManager.unwrap(Session.class);
+        StatementCounter counter = new StatementCounter();
+        session.addEventListeners(counter);
+
+        call.run();
+
+        SessionStatistics loaded = session.getStatistics();
+        return new SqlStats(
+                counter.statements,
+                loaded.getEntityCount() + loaded.getCollectionCount(),
+                TimeUnit.NANOSECONDS.toMillis(counter.slowestNanos));
+    }
+
+    /**
+     * Fails when {@code call} issues more than {@code maxStatements} statements or reads
+     * more than {@code maxRows} rows, so N+1 regressions show up as test failures.
+     */
+    protected SqlStats assertSqlBudget(long maxStatements, long maxRows, SqlCall call) throws Exception {
+        SqlStats stats = measureSql(call);
+        assertTrue(stats.statements() <= maxStatements,
+                "Expected at most " + maxStatements + " statements but was " + stats);
+        assertTrue(stats.rows() <= maxRows,
+                "Expected at most " + maxRows + " rows but was " + stats);
+        return stats;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ensias.spaceforces;
+
+import com.ensias.spaceforces.rank.Rank;
+import com.ensias.spaceforces.rank.RankRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class SecondLevelCacheConfigIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private RankRepository rankRepository;
+
+    @Test
+    void regionLookupsAreExportedWithoutHibernateStatistics() {
+        Long rankId = rankRepository.save(Rank.builder().title("Beginner").abbreviation("BEG").minPoints(0).build()).getId();
+        entityManager.flush();
+        entityManager.clear();
+        FunctionCounter misses = meterRegistry.find("cache.gets").tags("cache", "rank", "result", "miss").functionCounter();
+        assertNotNull(misses);
+        double before = misses.count();
+
+        // Cache entries are only written on commit, so this read misses the region
+        entityManager.find(Rank.class, rankId);
+
+        assertEquals(before + 1, misses.count());
+    }
+}
@@ -0,0 +1,104 @@
+package com.ensias.spaceforces.contestparticipation;
+
+import com.ensias.spaceforces.exception.ResourceNotFoundException;
+import com.ensias.spaceforces.quiz.QuizRepository;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import com.ensias.spaceforces.quiz.QuizStatusChangedEvent;
+import com.ensias.spaceforces.user.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContestLeaderboardServiceTest {
+
+    @Mock private ContestParticipationRepository participationRepository;
+    @Mock private QuizRepository quizRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private ContestLeaderboardService leaderboardService;
+
+    private ContestParticipation participation(Long userId, String username, int score) {
+        return ContestParticipation.builder()
+                .user(User.builder().id(userId).username(username).build())
+                .score(score)
+                .completionTime(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build();
+    }
+
+    @Test
+    void getTop_LiveQuiz_KeepsBoardUntilQuizFinishes() {
+        when(quizRepository.findStatusById(1L)).thenReturn(Optional.of(QuizStatus.LIVE));
+        when(participationRepository.findByQuizId(1L)).thenReturn(List.of(participation(1L, "alice", 10)));
+
+        leaderboardService.getTop(1L, 10);
+        leaderboardService.onScoreChanged(new ContestScoreChangedEvent(1L, 2L, "bob", 20, LocalDateTime.now()));
+        assertEquals("bob", leaderboardService.getTop(1L, 10).get(0).getUsername());
+        verify(participationRepository, times(1)).findByQuizId(1L);
+
+        leaderboardService.onQuizStatusChanged(new QuizStatusChangedEvent(1L, QuizStatus.FINISHED));
+        leaderboardService.getTop(1L, 10);
+        verify(participationRepository, times(2)).findByQuizId(1L);
+    }
+
+    @Test
+    void getTop_FinishedQuiz_IsNotKeptInMemory() {
+        when(quizRepository.findStatusById(1L)).thenReturn(Optional.of(QuizStatus.FINISHED));
+        when(participationRepository.findByQuizId(1L)).thenReturn(List.of(participation(1L, "alice", 10)));
+
+        leaderboardService.getTop(1L, 10);
+        leaderboardService.getTop(1L, 10);
+
+        verify(participationRepository, times(2)).findByQuizId(1L);
+    }
+
+    @Test
+    void getTop_UnknownQuiz_ThrowsWithoutCreatingBoard() {
+        when(quizRepository.findStatusById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> leaderboardService.getTop(99L, 10));
+        verifyNoInteractions(participationRepository);
+    }
+
+    @Test
+    void onScoreChanged_WithoutBoard_DoesNotLoadOne() {
+        leaderboardService.onScoreChanged(new ContestScoreChangedEvent(1L, 2L, "bob", 20, LocalDateTime.now()));
+
+        verifyNoInteractions(participationRepository, quizRepository);
+    }
+
+    @Test
+    void catchUp_RepublishesOnlyScoresGradedElsewhere() {
+        LocalDateTime completed = LocalDateTime.of(2025, 1, 1, 10, 0);
+        when(quizRepository.findStatusById(1L)).thenReturn(Optional.of(QuizStatus.LIVE));
+        when(participationRepository.findByQuizId(1L)).thenReturn(List.of(participation(1L, "alice", 10)));
+        leaderboardService.getTop(1L, 10);
+        when(participationRepository.findStandingsChangedSince(eq(Set.of(1L)), any())).thenReturn(List.of(
+                new Object[]{1L, 1L, "alice", 10, completed},
+                new Object[]{1L, 2L, "bob", 20, completed}));
+
+        leaderboardService.catchUp();
+
+        verify(eventPublisher).publishEvent(new ContestScoreChangedEvent(1L, 2L, "bob", 20, completed));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void catchUp_WithoutBoards_SkipsTheQuery() {
+        leaderboardService.catchUp();
+
+        verifyNoInteractions(participationRepository);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ensias.spaceforces.contestparticipation;
+
+import com.ensias.spaceforces.contestparticipation.dto.LeaderboardEntryDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContestLeaderboardTest {
+
+    private final LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Test
+    void ordersByScoreThenCompletionTime() {
+        ContestLeaderboard board = new ContestLeaderboard();
+        board.upsert(1L, "alice", 10, start.plusMinutes(5));
+        board.upsert(2L, "bob", 20, start.plusMinutes(9));
+        board.upsert(3L, "carol", 10, start.plusMinutes(1));
+
+        List<LeaderboardEntryDTO> top = board.top(10);
+
+        assertEquals(List.of("bob", "carol", "alice"), top.stream().map(LeaderboardEntryDTO::getUsername).toList());
+        assertEquals(List.of(1, 2, 3), top.stream().map(LeaderboardEntryDTO::getRank).toList());
+    }
+
+    @Test
+    void upsertMovesExistingUser() {
+        ContestLeaderboard board = new ContestLeaderboard();
+        board.upsert(1L, "alice", 0, start);
+        board.upsert(2L, "bob", 5, start);
+
+        board.upsert(1L, "alice", 30, start.plusMinutes(3));
+
+        assertEquals(2, board.size());
+        assertEquals(1, board.findByUserId(1L).orElseThrow().getRank());
+        assertEquals(2, board.findByUserId(2L).orElseThrow().getRank());
+
+        board.remove(1L);
+        assertTrue(board.findByUserId(1L).isEmpty());
+        assertEquals(1, board.findByUserId(2L).orElseThrow().getRank());
+    }
+}
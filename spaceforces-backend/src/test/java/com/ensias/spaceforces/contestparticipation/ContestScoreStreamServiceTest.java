@@ -0,0 +1,62 @@
+package com.ensias.spaceforces.contestparticipation;
+
+import com.ensias.spaceforces.exception.BadRequestException;
+import com.ensias.spaceforces.quiz.QuizRepository;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import com.ensias.spaceforces.quiz.QuizStatusChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContestScoreStreamServiceTest {
+
+    @Mock private ContestLeaderboardService leaderboardService;
+    @Mock private QuizRepository quizRepository;
+
+    private ContestScoreStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new ContestScoreStreamService(leaderboardService, quizRepository, new ObjectMapper(), 60000, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    void subscribe_QuizNotLive_Rejected() {
+        when(quizRepository.findStatusById(1L)).thenReturn(Optional.of(QuizStatus.FINISHED));
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> streamService.subscribe(1L));
+        assertTrue(ex.getMessage().contains("Quiz is not Live"));
+        verifyNoInteractions(leaderboardService);
+    }
+
+    @Test
+    void onQuizStatusChanged_Finished_StopsStreamingTheQuiz() {
+        when(quizRepository.findStatusById(1L)).thenReturn(Optional.of(QuizStatus.LIVE));
+        when(leaderboardService.getTop(1L, 50)).thenReturn(List.of());
+        assertNotNull(streamService.subscribe(1L));
+
+        streamService.onQuizStatusChanged(new QuizStatusChangedEvent(1L, QuizStatus.FINISHED));
+        streamService.onScoreChanged(new ContestScoreChangedEvent(1L, 2L, "bob", 20, LocalDateTime.now()));
+        streamService.flush();
+
+        verify(leaderboardService, never()).getBoard(any());
+    }
+}
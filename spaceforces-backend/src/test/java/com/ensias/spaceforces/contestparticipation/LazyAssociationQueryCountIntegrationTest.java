@@ -0,0 +1,150 @@
+package com.ensias.spaceforces.contestparticipation;
+
+import com.ensias.spaceforces.BaseIntegrationTest;
+import com.ensias.spaceforces.contestdifficulty.ContestDifficulty;
+import com.ensias.spaceforces.contestdifficulty.ContestDifficultyRepository;
+import com.ensias.spaceforces.option.Option;
+import com.ensias.spaceforces.option.OptionRepository;
+import com.ensias.spaceforces.question.Question;
+import com.ensias.spaceforces.question.QuestionRepository;
+import com.ensias.spaceforces.quiz.Quiz;
+import com.ensias.spaceforces.quiz.QuizMode;
+import com.ensias.spaceforces.quiz.QuizRepository;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import com.ensias.spaceforces.rank.Rank;
+import com.ensias.spaceforces.rank.RankRepository;
+import com.ensias.spaceforces.submission.Submission;
+import com.ensias.spaceforces.submission.SubmissionRepository;
+import com.ensias.spaceforces.user.User;
+import com.ensias.spaceforces.user.UserRepository;
+import com.ensias.spaceforces.user.dto.LoginDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With lazy @ManyToOne associations, list endpoints must load what they render through
+ * their entity graph instead of one query per row.
+ */
+class LazyAssociationQueryCountIntegrationTest extends BaseIntegrationTest {
+
+    private static final int PARTICIPANTS = 5;
+
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private RankRepository rankRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ContestDifficultyRepository difficultyRepository;
+    @Autowired private QuizRepository quizRepository;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private OptionRepository optionRepository;
+    @Autowired private SubmissionRepository submissionRepository;
+    @Autowired private ContestParticipationRepository participationRepository;
+
+    private Quiz quiz;
+    private String authToken;
+
+    @BeforeEach
+    void setUpData() throws Exception {
+        Rank rank = rankRepository.save(Rank.builder().title("Beginner").abbreviation("BEG").minPoints(0).build());
+        ContestDifficulty difficulty = difficultyRepository.save(
+                ContestDifficulty.builder().diff("Easy").abbreviation("Ez").build());
+
+        User author = userRepository.save(User.builder().username("author").email("author@test.com")
+                .password(passwordEncoder.encode("password123")).rank(rank).build());
+        quiz = quizRepository.save(Quiz.builder().title("Lazy Quiz").difficulty(difficulty).createdBy(author)
+                .startDateTime(LocalDateTime.now().plusHours(1)).duration(30)
+                .status(QuizStatus.CREATED).mode(QuizMode.OFFICIAL).build());
+        Question question = questionRepository.save(Question.builder().quiz(quiz).questionText("Q").points(5).build());
+        Option option = optionRepository.save(Option.builder().question(question).optionText("A").valid(true).build());
+
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            User user = userRepository.save(User.builder().username("player" + i).email("player" + i + "@test.com")
+                    .password("x").rank(rank).build());
+            ContestParticipation participation = new ContestParticipation();
+            participation.setUser(user);
+            participation.setQuiz(quiz);
+            participation.setScore(i);
+            participation.setCompletionTime(LocalDateTime.now());
+            participationRepository.save(participation);
+            submissionRepository.save(Submission.builder().user(user).question(question).option(option)
+                    .score(5).completionTime(LocalDateTime.now()).build());
+        }
+
+        LoginDTO loginDTO = new LoginDTO();
+        loginDTO.setEmail("author@test.com");
+        loginDTO.setPassword("password123");
+        ResultActions loginResult = mockMvc.perform(post("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginDTO)));
+        authToken = objectMapper.readTree(loginResult.andReturn().getResponse().getContentAsString())
+                .get("token").asText();
+    }
+
+    @Test
+    void participationsByQuiz_LoadsUsersAndQuizInOneStatement() throws Exception {
+        assertSqlBudget(1, 2 * PARTICIPANTS + 4, () -> mockMvc.perform(get("/participations/quiz/" + quiz.getId())
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(PARTICIPANTS))
+                .andExpect(jsonPath("$[0].user.rank.title").value("Beginner"))
+                .andExpect(jsonPath("$[0].quiz.difficulty.diff").value("Easy")));
+    }
+
+    @Test
+    void submissionsByQuiz_DoesNotTouchAssociations() throws Exception {
+        assertSqlBudget(1, 2 * PARTICIPANTS + 4, () -> mockMvc.perform(get("/submissions/quiz/" + quiz.getId())
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(PARTICIPANTS)));
+    }
+
+    @Test
+    void quizById_LoadsDifficultyAndCreatorWithTheQuiz() throws Exception {
+        assertSqlBudget(1, 2 * PARTICIPANTS + 4, () -> mockMvc.perform(get("/quizzes/" + quiz.getId())
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdBy.username").value("author"))
+                .andExpect(jsonPath("$.difficulty.abbreviation").value("Ez")));
+    }
+
+    @Test
+    void myQuizzes_LoadsDifficultyAndCreatorWithTheQuizzes() throws Exception {
+        assertSqlBudget(1, 2 * PARTICIPANTS + 4, () -> mockMvc.perform(get("/quizzes/my-quizzes")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].createdBy.rank.title").value("Beginner"))
+                .andExpect(jsonPath("$[0].difficulty.diff").value("Easy")));
+    }
+
+    @Test
+    void quizzesByUser_LoadsDifficultyAndCreatorWithTheQuizzes() throws Exception {
+        assertSqlBudget(1, 2 * PARTICIPANTS + 4, () -> mockMvc.perform(
+                        get("/quizzes/user/" + quiz.getCreatedBy().getId())
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].createdBy.username").value("author"))
+                .andExpect(jsonPath("$[0].difficulty.abbreviation").value("Ez")));
+    }
+
+    @Test
+    void quizzesByModeAndStatus_LoadsTheQuizzesInOneStatement() throws Exception {
+        assertSqlBudget(1, 2 * PARTICIPANTS + 4, () -> mockMvc.perform(get("/quizzes")
+                        .param("mode", QuizMode.OFFICIAL.name())
+                        .param("status", QuizStatus.CREATED.name())
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Lazy Quiz")));
+    }
+}
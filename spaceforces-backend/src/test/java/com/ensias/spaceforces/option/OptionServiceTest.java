@@ -4,11 +4,14 @@ import com.ensias.spaceforces.exception.ResourceNotFoundException;
 import com.ensias.spaceforces.option.dto.OptionDTO;
 import com.ensias.spaceforces.question.Question;
 import com.ensias.spaceforces.question.QuestionRepository;
+import com.ensias.spaceforces.quiz.Quiz;
+import com.ensias.spaceforces.quiz.QuizContentChangedEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -21,6 +24,7 @@ class OptionServiceTest {
 
     @Mock private OptionRepository optionRepository;
     @Mock private QuestionRepository questionRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private OptionService optionService;
 
@@ -34,6 +38,7 @@ class OptionServiceTest {
 
         Question question = new Question();
         question.setId(1L);
+        question.setQuiz(Quiz.builder().id(5L).build());
 
         when(questionRepository.findById(1L)).thenReturn(Optional.of(question));
 
@@ -87,19 +92,20 @@ class OptionServiceTest {
     @Test
     void deleteOption_ExistingId_DeletesSuccessfully() {
         // Arrange
-        when(optionRepository.existsById(1L)).thenReturn(true);
+        when(optionRepository.findQuizIdById(1L)).thenReturn(Optional.of(5L));
 
         // Act
         optionService.deleteOption(1L);
 
         // Assert
         verify(optionRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new QuizContentChangedEvent(5L));
     }
 
     @Test
     void deleteOption_NonExistingId_ThrowsException() {
         // Arrange
-        when(optionRepository.existsById(999L)).thenReturn(false);
+        when(optionRepository.findQuizIdById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () ->
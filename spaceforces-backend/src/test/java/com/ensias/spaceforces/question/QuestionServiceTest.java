@@ -4,6 +4,7 @@ import com.cloudinary.Cloudinary;
 import com.ensias.spaceforces.exception.ResourceNotFoundException;
 import com.ensias.spaceforces.option.OptionRepository;
 import com.ensias.spaceforces.quiz.Quiz;
+import com.ensias.spaceforces.quiz.QuizContentChangedEvent;
 import com.ensias.spaceforces.question.dto.QuestionDTO;
 import com.ensias.spaceforces.quiz.QuizRepository;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -27,6 +29,7 @@ class QuestionServiceTest {
 
     @Mock private QuestionRepository questionRepository;
     @Mock private QuizRepository quizRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private QuestionService questionService;
 
@@ -66,6 +69,7 @@ class QuestionServiceTest {
     void deleteQuestion_ExistingId_DeletesEntity() {
         // Arrange
         Question question = new Question();
+        question.setQuiz(Quiz.builder().id(5L).build());
         when(questionRepository.findById(1L)).thenReturn(Optional.of(question));
 
         // Act
@@ -73,5 +77,6 @@ class QuestionServiceTest {
 
         // Assert
         verify(questionRepository).delete(question);
+        verify(eventPublisher).publishEvent(new QuizContentChangedEvent(5L));
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.ensias.spaceforces.quiz;
+
+import com.ensias.spaceforces.quiz.dto.QuestionImportResultDTO;
+import com.ensias.spaceforces.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionImportServiceTest {
+
+    @Mock private QuizRepository quizRepository;
+    @Mock private QuizService quizService;
+    @Mock private EntityManager entityManager;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private QuestionImportService importService;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        importService = new QuestionImportService(quizRepository, quizService,
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager, transactionManager,
+                eventPublisher, new ObjectMapper(), 50, 100);
+        quiz = Quiz.builder().id(1L).status(QuizStatus.CREATED).createdBy(User.builder().id(7L).build()).build();
+    }
+
+    private static ByteArrayInputStream lines(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importQuestions_DatabaseRejectsOneRow_ReportsThatLineAndKeepsTheOthers() throws Exception {
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // Whole batch fails, then the retries: first line fails again, second succeeds
+        doThrow(new PersistenceException("value too long"))
+                .doThrow(new PersistenceException("value too long"))
+                .doNothing()
+                .when(entityManager).flush();
+
+        QuestionImportResultDTO result = importService.importQuestions(1L, 7L, lines(
+                "{\"questionText\":\"Too long\",\"points\":5,\"options\":[{\"optionText\":\"A\",\"valid\":true}]}",
+                "{\"questionText\":\"Fine\",\"points\":3,\"options\":[{\"optionText\":\"B\",\"valid\":true}]}"));
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getMessage().contains("value too long"));
+        verify(quizService, times(3)).addQuestions(eq(quiz), anyList());
+        verify(eventPublisher).publishEvent(new QuizContentChangedEvent(1L));
+    }
+
+    @Test
+    void importQuestions_NotCreator_AccessDenied() {
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+
+        assertThrows(AccessDeniedException.class, () -> importService.importQuestions(1L, 8L, lines("{}")));
+        verifyNoInteractions(quizService);
+    }
+}
@@ -3,8 +3,11 @@ package com.ensias.spaceforces.quiz;
 import com.ensias.spaceforces.BaseIntegrationTest;
 import com.ensias.spaceforces.contestdifficulty.ContestDifficulty;
 import com.ensias.spaceforces.contestdifficulty.ContestDifficultyRepository;
+import com.ensias.spaceforces.option.Option;
+import com.ensias.spaceforces.option.OptionRepository;
 import com.ensias.spaceforces.option.dto.OptionInfosDTO;
 import com.ensias.spaceforces.question.Question;
+import com.ensias.spaceforces.question.QuestionRepository;
 import com.ensias.spaceforces.question.dto.QuestionWithOptionsDTO;
 import com.ensias.spaceforces.quiz.dto.QuizCreateDTO;
 import com.ensias.spaceforces.quiz.dto.QuizWithQuestionsDTO;
@@ -27,6 +30,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -53,6 +57,12 @@ class QuizControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
     @MockBean
     private QuizSchedulerService quizSchedulerService;
 
@@ -261,4 +271,66 @@ class QuizControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.title").value("Test Quiz"))
                 .andExpect(jsonPath("$.description").value("Test Description"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldLoadQuizDetailsInConstantStatements() throws Exception {
+        Quiz savedQuiz = quizRepository.save(Quiz.builder()
+                .title("Details Quiz")
+                .difficulty(testDifficulty)
+                .createdBy(testUser)
+                .startDateTime(LocalDateTime.now().plusDays(1))
+                .duration(30)
+                .status(QuizStatus.CREATED)
+                .mode(QuizMode.PUBLIC)
+                .build());
+        for (int i = 1; i <= 3; i++) {
+            Question question = questionRepository.save(Question.builder()
+                    .quiz(savedQuiz).questionText("Question " + i).points(i).build());
+            optionRepository.save(Option.builder().question(question).optionText("Right").valid(true).build());
+            optionRepository.save(Option.builder().question(question).optionText("Wrong").valid(false).build());
+        }
+
+        // Quiz, its options and its questions: one statement each whatever the question count.
+        // Rows: the quiz with its difficulty, creator and rank, 3 questions and 6 options
+        assertSqlBudget(3, 13, () -> mockMvc.perform(get("/quizzes/" + savedQuiz.getId() + "/details")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.questions.length()").value(3))
+                .andExpect(jsonPath("$.questions[0].options.length()").value(2)));
+    }
+
+    @Test
+    void shouldImportQuestionsFromNdjsonAndReportBadRows() throws Exception {
+        // Arrange
+        Quiz savedQuiz = quizRepository.save(Quiz.builder()
+                .title("Import Quiz")
+                .difficulty(testDifficulty)
+                .createdBy(testUser)
+                .startDateTime(LocalDateTime.now().plusDays(1))
+                .duration(30)
+                .status(QuizStatus.CREATED)
+                .mode(QuizMode.PUBLIC)
+                .build());
+
+        String body = String.join("\n",
+                "{\"questionText\":\"What is JVM?\",\"points\":5,\"options\":[{\"optionText\":\"A VM\",\"valid\":true}]}",
+                "{\"questionText\":",
+                "{\"points\":5,\"options\":[{\"optionText\":\"A\",\"valid\":true}]}",
+                "",
+                "{\"questionText\":\"What is JIT?\",\"points\":3,\"options\":[{\"optionText\":\"A compiler\",\"valid\":true}]}");
+
+        // Act & Assert
+        mockMvc.perform(post("/quizzes/" + savedQuiz.getId() + "/questions/import")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[1].line").value(3));
+
+        List<Question> questions = questionRepository.findByQuizId(savedQuiz.getId());
+        assertEquals(2, questions.size());
+    }
+}
@@ -9,11 +9,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +28,7 @@ class QuizControllerTest {
 
     @Mock private QuizService quizService;
     @Mock private UserService userService;
+    @Mock private QuizPayloadCache payloadCache;
     @InjectMocks private QuizController quizController;
 
     @Test
@@ -72,4 +77,94 @@ class QuizControllerTest {
         ResponseEntity<Quiz> response = quizController.updateQuizStatus(1L, QuizStatus.LIVE);
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getQuizDetails_CachedPayload_ServesGzipAndHonoursEtag() {
+        QuizPayloadCache.Payload payload = new QuizPayloadCache.Payload(
+                "{}".getBytes(), new byte[]{1, 2, 3}, "\"abc\"", LocalDateTime.now().plusMinutes(30));
+        CustomUserDetails creator = new CustomUserDetails(1L, "creator@example.com", false);
+        when(userService.auth()).thenReturn(creator);
+        when(payloadCache.get(1L)).thenReturn(Optional.of(payload));
+
+        ResponseEntity<?> fresh = quizController.getQuizDetails(1L, null, "gzip, deflate");
+        assertEquals(HttpStatus.OK, fresh.getStatusCode());
+        assertEquals("gzip", fresh.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(payload.gzip(), (byte[]) fresh.getBody());
+        assertTrue(fresh.getHeaders().getCacheControl().contains("private"));
+
+        assertEquals("\"abc-gz\"", fresh.getHeaders().getETag());
+
+        ResponseEntity<?> revalidated = quizController.getQuizDetails(1L, "\"abc-gz\"", "gzip");
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        verify(quizService, times(2)).checkCanSeeAnswers(1L, creator);
+        verify(quizService, never()).getQuizDetailsById(anyLong());
+    }
+
+    @Test
+    void getQuizDetails_NotCreator_DeniedBeforeCacheIsRead() {
+        CustomUserDetails participant = new CustomUserDetails(2L, "participant@example.com", false);
+        when(userService.auth()).thenReturn(participant);
+        doThrow(new AccessDeniedException("denied")).when(quizService).checkCanSeeAnswers(1L, participant);
+
+        assertThrows(AccessDeniedException.class, () -> quizController.getQuizDetails(1L, null, "gzip"));
+        assertThrows(AccessDeniedException.class, () -> quizController.getQuizQuestions(1L));
+        verifyNoInteractions(payloadCache);
+        verify(quizService, never()).getQuizQuestions(anyLong());
+    }
+
+    @Test
+    void getParticipantView_EtagDependsOnEncoding() {
+        QuizPayloadCache.Payload payload = new QuizPayloadCache.Payload(
+                "{}".getBytes(), new byte[]{1}, "\"p\"", LocalDateTime.now().plusMinutes(10));
+        when(payloadCache.getParticipantView(1L)).thenReturn(Optional.of(payload));
+
+        ResponseEntity<?> identity = quizController.getParticipantView(1L, null, null);
+        ResponseEntity<?> gzip = quizController.getParticipantView(1L, null, "gzip");
+        assertEquals("\"p\"", identity.getHeaders().getETag());
+        assertEquals("\"p-gz\"", gzip.getHeaders().getETag());
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzip.getHeaders().getFirst(HttpHeaders.VARY));
+
+        // The identity validator does not revalidate the gzip representation
+        assertEquals(HttpStatus.OK, quizController.getParticipantView(1L, "\"p\"", "gzip").getStatusCode());
+        ResponseEntity<?> notModified = quizController.getParticipantView(1L, "\"x\", W/\"p-gz\"", "gzip");
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, notModified.getHeaders().getFirst(HttpHeaders.VARY));
+    }
+
+    @Test
+    void matchesEtag_ParsesListsAndWeakValidators() {
+        assertTrue(QuizController.matchesEtag("\"a\"", "\"a\""));
+        assertTrue(QuizController.matchesEtag("\"b\", \"a\"", "\"a\""));
+        assertTrue(QuizController.matchesEtag("W/\"a\"", "\"a\""));
+        assertTrue(QuizController.matchesEtag("*", "\"a\""));
+        assertFalse(QuizController.matchesEtag("\"b\"", "\"a\""));
+        assertFalse(QuizController.matchesEtag(null, "\"a\""));
+    }
+
+    @Test
+    void acceptsGzip_ReadsQualityValues() {
+        assertTrue(QuizController.acceptsGzip("gzip, deflate"));
+        assertTrue(QuizController.acceptsGzip("deflate;q=1, GZIP;q=0.5"));
+        assertTrue(QuizController.acceptsGzip("*"));
+        assertFalse(QuizController.acceptsGzip("gzip;q=0"));
+        assertFalse(QuizController.acceptsGzip("gzip; q=0.0, deflate"));
+        assertFalse(QuizController.acceptsGzip("*, gzip;q=0"));
+        assertFalse(QuizController.acceptsGzip("br, deflate"));
+        assertFalse(QuizController.acceptsGzip(null));
+    }
+
+    @Test
+    void getParticipantView_CachedPayload_IsPubliclyCacheableUntilQuizEnds() {
+        QuizPayloadCache.Payload payload = new QuizPayloadCache.Payload(
+                "{}".getBytes(), new byte[]{1}, "\"p\"", LocalDateTime.now().plusMinutes(10));
+        when(payloadCache.getParticipantView(1L)).thenReturn(Optional.of(payload));
+
+        ResponseEntity<?> response = quizController.getParticipantView(1L, null, null);
+
+        String cacheControl = response.getHeaders().getCacheControl();
+        assertNotNull(cacheControl);
+        assertTrue(cacheControl.contains("public"));
+        assertTrue(cacheControl.matches(".*max-age=(599|600).*"));
+        assertArrayEquals(payload.json(), (byte[]) response.getBody());
+    }
+}
@@ -12,6 +12,7 @@ import org.quartz.TriggerKey;
 
 import java.time.LocalDateTime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -19,6 +20,7 @@ import static org.mockito.Mockito.*;
 class QuizSchedulerServiceTest {
 
     @Mock private Scheduler scheduler;
+    @Mock private QuizTransitionWheel transitionWheel;
     @InjectMocks private QuizSchedulerService schedulerService;
 
 
@@ -42,4 +44,36 @@ class QuizSchedulerServiceTest {
         verify(scheduler).unscheduleJob(eq(TriggerKey.triggerKey("quiz-start-trigger-1", "quiz-triggers")));
         verify(scheduler).deleteJob(eq(JobKey.jobKey("quiz-start-1", "quiz-jobs")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void ensureScheduled_MissingEndTrigger_OnlyEndIsReRegistered() throws SchedulerException {
+        Quiz quiz = Quiz.builder()
+                .id(1L)
+                .status(QuizStatus.LIVE)
+                .startDateTime(LocalDateTime.now().minusMinutes(10))
+                .duration(60)
+                .build();
+        when(scheduler.checkExists(TriggerKey.triggerKey("quiz-end-trigger-1", "quiz-triggers"))).thenReturn(false);
+
+        int added = schedulerService.ensureScheduled(quiz);
+
+        assertEquals(1, added);
+        verify(scheduler).deleteJob(JobKey.jobKey("quiz-end-1", "quiz-jobs"));
+        verify(scheduler, times(1)).scheduleJob(any(), any());
+    }
+
+    @Test
+    void scheduleQuizStatusUpdate_PublicQuiz_UsesTimingWheel() throws SchedulerException {
+        Quiz quiz = Quiz.builder()
+                .id(2L)
+                .mode(QuizMode.PUBLIC)
+                .startDateTime(LocalDateTime.now().plusMinutes(5))
+                .duration(30)
+                .build();
+
+        schedulerService.scheduleQuizStatusUpdate(quiz);
+
+        verify(transitionWheel).schedule(quiz);
+        verify(scheduler, never()).scheduleJob(any(), any());
+    }
+}
@@ -1,19 +1,30 @@
 package com.ensias.spaceforces.quiz;
 
+import com.ensias.spaceforces.TestDataFactory;
 import com.ensias.spaceforces.contestdifficulty.ContestDifficulty;
 import com.ensias.spaceforces.contestdifficulty.ContestDifficultyRepository;
+import com.ensias.spaceforces.contestparticipation.ContestParticipationRepository;
 import com.ensias.spaceforces.exception.ResourceNotFoundException;
+import com.ensias.spaceforces.option.Option;
 import com.ensias.spaceforces.option.OptionRepository;
+import com.ensias.spaceforces.question.Question;
 import com.ensias.spaceforces.question.QuestionRepository;
 import com.ensias.spaceforces.quiz.dto.QuizCreateDTO;
+import com.ensias.spaceforces.quiz.dto.QuizDetailsDTO;
+import com.ensias.spaceforces.quiz.dto.QuizWithQuestionsDTO;
  import com.ensias.spaceforces.user.User;
 import com.ensias.spaceforces.user.UserRepository;
+import com.ensias.spaceforces.user.config.CustomUserDetails;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.SchedulerException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +32,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +44,8 @@ class QuizServiceTest {
     @Mock private QuestionRepository questionRepository;
     @Mock private QuizSchedulerService schedulerService;
     @Mock private OptionRepository optionRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ContestParticipationRepository participationRepository;
 
     @InjectMocks private QuizService quizService;
 
@@ -85,7 +99,7 @@ class QuizServiceTest {
     @Test
     void getQuizById_ExistingId_ReturnsQuiz() {
         Quiz expected = new Quiz();
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(expected));
+        when(quizRepository.findDetailsById(1L)).thenReturn(Optional.of(expected));
 
         Quiz result = quizService.getQuizById(1L);
         assertEquals(expected, result);
@@ -93,7 +107,7 @@ class QuizServiceTest {
 
     @Test
     void getQuizById_NonExistingId_ThrowsException() {
-        when(quizRepository.findById(999L)).thenReturn(Optional.empty());
+        when(quizRepository.findDetailsById(999L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () ->
                 quizService.getQuizById(999L));
@@ -108,6 +122,7 @@ class QuizServiceTest {
 
         Quiz result = quizService.updateQuizStatus(1L, QuizStatus.LIVE);
         assertEquals(QuizStatus.LIVE, result.getStatus());
+        verify(eventPublisher).publishEvent(new QuizStatusChangedEvent(1L, QuizStatus.LIVE));
     }
 
     @Test
@@ -123,4 +138,80 @@ class QuizServiceTest {
         verify(quizRepository).delete(quiz);
         verify(schedulerService).unscheduleQuizStatusUpdate(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkCanSeeAnswers_OnlyCreatorAndAdminsWhileQuizRuns() {
+        when(quizRepository.findCreatorIdById(1L)).thenReturn(Optional.of(1L));
+        when(quizRepository.findStatusById(1L)).thenReturn(Optional.of(QuizStatus.LIVE));
+
+        quizService.checkCanSeeAnswers(1L, new CustomUserDetails(1L, "creator@test.com", false));
+        quizService.checkCanSeeAnswers(1L, new CustomUserDetails(3L, "admin@test.com", true));
+        assertThrows(AccessDeniedException.class, () ->
+                quizService.checkCanSeeAnswers(1L, new CustomUserDetails(2L, "player@test.com", false)));
+        verify(participationRepository, never()).existsByUserIdAndQuizId(any(), any());
+    }
+
+    @Test
+    void checkCanSeeAnswers_FinishedQuiz_OpenToItsParticipants() {
+        when(quizRepository.findCreatorIdById(1L)).thenReturn(Optional.of(1L));
+        when(quizRepository.findStatusById(1L)).thenReturn(Optional.of(QuizStatus.FINISHED));
+        when(participationRepository.existsByUserIdAndQuizId(2L, 1L)).thenReturn(true);
+        when(participationRepository.existsByUserIdAndQuizId(4L, 1L)).thenReturn(false);
+
+        quizService.checkCanSeeAnswers(1L, new CustomUserDetails(2L, "player@test.com", false));
+        assertThrows(AccessDeniedException.class, () ->
+                quizService.checkCanSeeAnswers(1L, new CustomUserDetails(4L, "outsider@test.com", false)));
+    }
+
+    @Test
+    void getQuizDetailsById_LoadsOptionsForWholeQuizAtOnce() {
+        Quiz quiz = Quiz.builder().id(1L).title("Quiz").status(QuizStatus.LIVE).build();
+        Question first = Question.builder().id(10L).quiz(quiz).questionText("Q1").points(5).build();
+        Question second = Question.builder().id(11L).quiz(quiz).questionText("Q2").points(5).build();
+        when(quizRepository.findDetailsById(1L)).thenReturn(Optional.of(quiz));
+        when(questionRepository.findByQuizId(1L)).thenReturn(List.of(first, second));
+        when(optionRepository.findByQuestionQuizId(1L)).thenReturn(List.of(
+                Option.builder().id(100L).question(first).optionText("A").valid(true).build(),
+                Option.builder().id(101L).question(first).optionText("B").build(),
+                Option.builder().id(102L).question(second).optionText("C").build()));
+
+        QuizDetailsDTO result = quizService.getQuizDetailsById(1L);
+
+        assertEquals(2, result.getQuestions().size());
+        assertEquals(2, result.getQuestions().get(0).getOptions().size());
+        assertEquals(1, result.getQuestions().get(1).getOptions().size());
+        verify(optionRepository, never()).findByQuestionId(any());
+
+        InOrder order = inOrder(questionRepository, optionRepository);
+        order.verify(questionRepository).findByQuizId(1L);
+        order.verify(optionRepository).findByQuestionQuizId(1L);
+    }
+
+    @Test
+    void createQuizWithQuestions_SavesQuestionsAndOptionsInBulk() throws SchedulerException {
+        QuizWithQuestionsDTO dto = TestDataFactory.createQuizWithQuestionsDTO();
+        dto.setQuestions(List.of(TestDataFactory.createQuestionDTO(), TestDataFactory.createQuestionDTO()));
+        Quiz savedQuiz = Quiz.builder().id(1L).build();
+
+        when(difficultyRepository.findById(1L)).thenReturn(Optional.of(new ContestDifficulty()));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(new User()));
+        when(quizRepository.save(any(Quiz.class))).thenReturn(savedQuiz);
+        when(questionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Question> questions = invocation.getArgument(0);
+            for (int i = 0; i < questions.size(); i++) {
+                questions.get(i).setId(100L + i);
+            }
+            return questions;
+        });
+
+        quizService.createQuizWithQuestions(dto, 1L);
+
+        ArgumentCaptor<List<Option>> options = ArgumentCaptor.forClass(List.class);
+        verify(optionRepository).saveAll(options.capture());
+        assertEquals(6, options.getValue().size());
+        assertEquals(101L, options.getValue().get(5).getQuestion().getId());
+        verify(questionRepository, never()).save(any());
+        verify(optionRepository, never()).save(any());
+        verify(schedulerService).scheduleQuizStatusUpdate(savedQuiz);
+    }
+}
@@ -0,0 +1,51 @@
+package com.ensias.spaceforces.quiz;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizStatusReconcilerTest {
+
+    @Mock private QuizRepository quizRepository;
+    @Mock private QuizSchedulerService schedulerService;
+    @Mock private QuizStatusTransitioner statusTransitioner;
+    @InjectMocks private QuizStatusReconciler reconciler;
+
+    @Test
+    void reconcileStatuses_OverdueQuizzes_TransitionedInBulk() {
+        when(quizRepository.findIdsByStatusInAndEndedBy(eq(EnumSet.of(QuizStatus.CREATED, QuizStatus.LIVE)),
+                any(LocalDateTime.class))).thenReturn(List.of(1L, 2L));
+        when(quizRepository.findIdsByStatusAndStartedBy(eq(QuizStatus.CREATED), any(LocalDateTime.class)))
+                .thenReturn(List.of(3L));
+
+        reconciler.reconcileStatuses();
+
+        verify(statusTransitioner).transition(List.of(1L, 2L), QuizStatus.FINISHED);
+        verify(statusTransitioner).transition(List.of(3L), QuizStatus.LIVE);
+    }
+
+    @Test
+    void reconcileOnStartup_ReRegistersMissingTriggers() throws Exception {
+        Quiz pending = Quiz.builder().id(4L).status(QuizStatus.CREATED)
+                .startDateTime(LocalDateTime.now().plusHours(1)).duration(30).build();
+        when(quizRepository.findIdsByStatusInAndEndedBy(any(), any())).thenReturn(List.of());
+        when(quizRepository.findIdsByStatusAndStartedBy(any(), any())).thenReturn(List.of());
+        when(quizRepository.findByStatusIn(EnumSet.of(QuizStatus.CREATED, QuizStatus.LIVE)))
+                .thenReturn(List.of(pending));
+
+        reconciler.reconcileOnStartup();
+
+        verify(schedulerService).ensureScheduled(pending);
+    }
+}
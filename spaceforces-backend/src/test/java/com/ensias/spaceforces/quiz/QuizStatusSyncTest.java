@@ -0,0 +1,49 @@
+package com.ensias.spaceforces.quiz;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizStatusSyncTest {
+
+    @Mock private QuizRepository quizRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @InjectMocks private QuizStatusSync statusSync;
+
+    @Test
+    void sync_RepublishesTransitionsMadeByOtherInstances() {
+        when(quizRepository.findIdsByStatus(QuizStatus.LIVE)).thenReturn(List.of(1L, 2L));
+        statusSync.loadLiveQuizzes();
+
+        // Quiz 1 was finished and quiz 3 opened through another node
+        when(quizRepository.findIdsByStatus(QuizStatus.LIVE)).thenReturn(List.of(2L, 3L));
+        when(quizRepository.findStatusesByIdIn(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, QuizStatus.FINISHED}));
+
+        statusSync.sync();
+
+        verify(eventPublisher).publishEvent(new QuizStatusChangedEvent(3L, QuizStatus.LIVE));
+        verify(eventPublisher).publishEvent(new QuizStatusChangedEvent(1L, QuizStatus.FINISHED));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void sync_NothingMissed_PublishesNothing() {
+        when(quizRepository.findIdsByStatus(QuizStatus.LIVE)).thenReturn(List.of(5L));
+        statusSync.onQuizStatusChanged(new QuizStatusChangedEvent(5L, QuizStatus.LIVE));
+
+        statusSync.sync();
+
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(quizRepository, never()).findStatusesByIdIn(any());
+    }
+}
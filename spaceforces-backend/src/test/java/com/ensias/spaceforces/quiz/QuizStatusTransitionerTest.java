@@ -0,0 +1,69 @@
+package com.ensias.spaceforces.quiz;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizStatusTransitionerTest {
+
+    @Mock private QuizRepository quizRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @InjectMocks private QuizStatusTransitioner statusTransitioner;
+
+    @Test
+    void transition_ToFinished_OnlyMovesEarlierStatusesAndPublishes() {
+        when(quizRepository.lockIdsByIdInAndStatusIn(List.of(1L, 2L),
+                EnumSet.of(QuizStatus.CREATED, QuizStatus.LIVE))).thenReturn(List.of(1L, 2L));
+        when(quizRepository.transitionStatus(List.of(1L, 2L),
+                EnumSet.of(QuizStatus.CREATED, QuizStatus.LIVE), QuizStatus.FINISHED)).thenReturn(2);
+
+        int updated = statusTransitioner.transition(List.of(1L, 2L), QuizStatus.FINISHED);
+
+        assertEquals(2, updated);
+        verify(eventPublisher).publishEvent(new QuizStatusChangedEvent(1L, QuizStatus.FINISHED));
+        verify(eventPublisher).publishEvent(new QuizStatusChangedEvent(2L, QuizStatus.FINISHED));
+    }
+
+    @Test
+    void transition_ToLive_DoesNotAnnounceQuizzesAlreadyPastIt() {
+        // Quiz 2 already FINISHED: a late LIVE trigger must not reopen its caches
+        when(quizRepository.lockIdsByIdInAndStatusIn(List.of(1L, 2L), EnumSet.of(QuizStatus.CREATED)))
+                .thenReturn(List.of(1L));
+        when(quizRepository.transitionStatus(List.of(1L), EnumSet.of(QuizStatus.CREATED), QuizStatus.LIVE))
+                .thenReturn(1);
+
+        assertEquals(1, statusTransitioner.transition(List.of(1L, 2L), QuizStatus.LIVE));
+
+        verify(eventPublisher).publishEvent(new QuizStatusChangedEvent(1L, QuizStatus.LIVE));
+        verify(eventPublisher, never()).publishEvent(new QuizStatusChangedEvent(2L, QuizStatus.LIVE));
+    }
+
+    @Test
+    void transition_NothingEligible_SkipsUpdateAndEvents() {
+        when(quizRepository.lockIdsByIdInAndStatusIn(List.of(3L), EnumSet.of(QuizStatus.CREATED, QuizStatus.LIVE)))
+                .thenReturn(List.of());
+
+        assertEquals(0, statusTransitioner.transition(List.of(3L), QuizStatus.FINISHED));
+
+        verify(quizRepository, never()).transitionStatus(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void transition_NoIds_SkipsUpdate() {
+        assertEquals(0, statusTransitioner.transition(List.of(), QuizStatus.LIVE));
+        verify(quizRepository, never()).transitionStatus(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
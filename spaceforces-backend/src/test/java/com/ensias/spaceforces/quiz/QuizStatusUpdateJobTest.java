@@ -0,0 +1,54 @@
+package com.ensias.spaceforces.quiz;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizStatusUpdateJobTest {
+
+    @Mock private QuizRepository quizRepository;
+    @Mock private QuizStatusTransitioner statusTransitioner;
+    @Mock private JobExecutionContext context;
+    @InjectMocks private QuizStatusUpdateJob job;
+
+    @Test
+    void execute_StartJob_MovesEveryDueQuizInOneUpdate() throws Exception {
+        JobDataMap data = new JobDataMap();
+        data.put("quizId", 1L);
+        data.put("newStatus", QuizStatus.LIVE.toString());
+        when(context.getMergedJobDataMap()).thenReturn(data);
+        when(quizRepository.findIdsByStatusAndStartedBy(eq(QuizStatus.CREATED), any(LocalDateTime.class)))
+                .thenReturn(List.of(1L, 2L, 3L));
+
+        job.execute(context);
+
+        verify(statusTransitioner).transition(List.of(1L, 2L, 3L), QuizStatus.LIVE);
+        verify(quizRepository, never()).findById(any());
+        verify(quizRepository, never()).save(any());
+    }
+
+    @Test
+    void execute_EndJob_IncludesOwnQuizEvenIfNotReturned() throws Exception {
+        JobDataMap data = new JobDataMap();
+        data.put("quizId", 7L);
+        data.put("newStatus", QuizStatus.FINISHED.toString());
+        when(context.getMergedJobDataMap()).thenReturn(data);
+        when(quizRepository.findIdsByStatusInAndEndedBy(any(), any(LocalDateTime.class))).thenReturn(List.of());
+
+        job.execute(context);
+
+        verify(statusTransitioner).transition(List.of(7L), QuizStatus.FINISHED);
+    }
+}
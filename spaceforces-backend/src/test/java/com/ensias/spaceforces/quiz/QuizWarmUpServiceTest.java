@@ -0,0 +1,58 @@
+package com.ensias.spaceforces.quiz;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizWarmUpServiceTest {
+
+    @Mock private QuizRepository quizRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private QuizWarmUpService warmUpService;
+
+    @BeforeEach
+    void setUp() {
+        warmUpService = new QuizWarmUpService(quizRepository, eventPublisher, 60);
+    }
+
+    @Test
+    void warmUpStartingQuizzes_PublishesOncePerQuiz() {
+        when(quizRepository.findIdsByStatusAndStartBetween(eq(QuizStatus.CREATED),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(1L, 2L));
+
+        warmUpService.warmUpStartingQuizzes();
+        warmUpService.warmUpStartingQuizzes();
+
+        verify(eventPublisher, times(1)).publishEvent(new QuizWarmUpEvent(1L));
+        verify(eventPublisher, times(1)).publishEvent(new QuizWarmUpEvent(2L));
+    }
+
+    @Test
+    void warmUpStartingQuizzes_QuizLeavingWindowIsForgotten() {
+        when(quizRepository.findIdsByStatusAndStartBetween(eq(QuizStatus.CREATED),
+                any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of())
+                .thenReturn(List.of(1L));
+
+        warmUpService.warmUpStartingQuizzes();
+        warmUpService.warmUpStartingQuizzes();
+        warmUpService.warmUpStartingQuizzes();
+
+        verify(eventPublisher, times(2)).publishEvent(new QuizWarmUpEvent(1L));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ensias.spaceforces.rank;
+
+import com.ensias.spaceforces.rank.dto.RankDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RankServiceTest {
+
+    @Mock private RankRepository rankRepository;
+
+    @InjectMocks private RankService rankService;
+
+    private Rank beginner;
+    private Rank advanced;
+
+    @BeforeEach
+    void setUp() {
+        beginner = Rank.builder().id(1L).title("Beginner").minPoints(0).maxPoints(100).build();
+        advanced = Rank.builder().id(2L).title("Advanced").minPoints(100).build();
+        when(rankRepository.findAll()).thenReturn(List.of(advanced, beginner));
+        rankService.refreshRanks();
+    }
+
+    @Test
+    void resolveRank_UsesFloorOfMinPoints() {
+        assertEquals(beginner, rankService.resolveRank(0).orElseThrow());
+        assertEquals(beginner, rankService.resolveRank(99).orElseThrow());
+        assertEquals(advanced, rankService.resolveRank(100).orElseThrow());
+        assertTrue(rankService.resolveRank(-1).isEmpty());
+        verify(rankRepository, times(1)).findAll();
+    }
+
+    @Test
+    void getDefaultRank_ReturnsLowestId() {
+        assertEquals(beginner, rankService.getDefaultRank().orElseThrow());
+    }
+
+    @Test
+    void createRank_RebuildsLookup() {
+        Rank expert = Rank.builder().id(3L).title("Expert").minPoints(500).build();
+        when(rankRepository.save(any(Rank.class))).thenReturn(expert);
+        when(rankRepository.findAll()).thenReturn(List.of(beginner, advanced, expert));
+
+        RankDTO dto = new RankDTO();
+        dto.setTitle("Expert");
+        dto.setMinPoints(500);
+        rankService.createRank(dto);
+
+        assertEquals(expert, rankService.resolveRank(750).orElseThrow());
+    }
+}
@@ -11,6 +11,7 @@ import com.ensias.spaceforces.question.QuestionRepository;
 import com.ensias.spaceforces.quiz.*;
 import com.ensias.spaceforces.rank.Rank;
 import com.ensias.spaceforces.rank.RankRepository;
+import com.ensias.spaceforces.rank.RankService;
 import com.ensias.spaceforces.submission.dto.QuizSubmissionRequest;
 import com.ensias.spaceforces.submission.dto.SubmissionDTO;
 import com.ensias.spaceforces.user.User;
@@ -35,6 +36,10 @@ import static org.hamcrest.Matchers.*;
 
 class SubmissionControllerIntegrationTest extends BaseIntegrationTest {
 
+    // Questions, quiz, already-submitted ids, options, points update and re-read, rank update on promotion, participation,
+    // username, batched insert, rank and difficulty for the response, plus up to two sequence fetches
+    private static final int SUBMISSION_STATEMENTS = 13;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -47,6 +52,9 @@ class SubmissionControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private RankRepository rankRepository;
 
+    @Autowired
+    private RankService rankService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -82,8 +90,6 @@ class SubmissionControllerIntegrationTest extends BaseIntegrationTest {
         entityManager.createNativeQuery("ALTER TABLE rank ALTER COLUMN id RESTART WITH 1").executeUpdate();
         entityManager.createNativeQuery("ALTER TABLE app_users ALTER COLUMN id RESTART WITH 1").executeUpdate();
         entityManager.createNativeQuery("ALTER TABLE quizzes ALTER COLUMN id RESTART WITH 1").executeUpdate();
-        entityManager.createNativeQuery("ALTER TABLE questions ALTER COLUMN id RESTART WITH 1").executeUpdate();
-        entityManager.createNativeQuery("ALTER TABLE options ALTER COLUMN id RESTART WITH 1").executeUpdate();
         entityManager.createNativeQuery("ALTER TABLE contest_difficulty ALTER COLUMN id RESTART WITH 1").executeUpdate();
 
         difficulty = ContestDifficulty.builder()
@@ -99,6 +105,7 @@ class SubmissionControllerIntegrationTest extends BaseIntegrationTest {
                 .maxPoints(100)
                 .build();
         defaultRank = rankRepository.save(defaultRank);
+        rankService.refreshRanks();
 
         // Create test user
         testUser = User.builder()
@@ -191,6 +198,44 @@ class SubmissionControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.quiz.mode").value("PUBLIC"));
     }
 
+    private QuizSubmissionRequest newAnswers(int count) {
+        List<QuizSubmissionRequest.QuestionSubmission> submissions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Question question = questionRepository.save(Question.builder()
+                    .quiz(testQuiz).questionText("Question " + i).points(10).build());
+            Option option = optionRepository.save(Option.builder()
+                    .question(question).optionText("Option " + i).valid(true).build());
+
+            QuizSubmissionRequest.QuestionSubmission submission = new QuizSubmissionRequest.QuestionSubmission();
+            submission.setQuestionId(question.getId());
+            submission.setOptionId(option.getId());
+            submissions.add(submission);
+        }
+        QuizSubmissionRequest request = new QuizSubmissionRequest();
+        request.setSubmissions(submissions);
+        return request;
+    }
+
+    private void assertSubmissionBudget(String token, int answers) throws Exception {
+        QuizSubmissionRequest request = newAnswers(answers);
+        // Rows: user, quiz, participation, rank and difficulty, then a question, option and submission per answer
+        assertSqlBudget(SUBMISSION_STATEMENTS, 5 + 3L * answers, () -> mockMvc.perform(post("/submissions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").value(10 * answers)));
+    }
+
+    @Test
+    void shouldGradeSubmissionWithoutQueryPerAnswer() throws Exception {
+        String token = getAuthToken();
+
+        // Reads and writes are batched per request, so one answer and five cost the same statements
+        assertSubmissionBudget(token, 1);
+        assertSubmissionBudget(token, 5);
+    }
+
     @Test
     void shouldFailSubmissionForNonLiveQuiz() throws Exception {
         // Change quiz status to CREATED
@@ -257,6 +302,7 @@ class SubmissionControllerIntegrationTest extends BaseIntegrationTest {
                 .maxPoints(200)
                 .build();
         rankRepository.save(advancedRank);
+        rankService.refreshRanks();
 
         // Submit quiz
         String token = getAuthToken();
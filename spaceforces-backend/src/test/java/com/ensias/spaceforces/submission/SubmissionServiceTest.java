@@ -0,0 +1,198 @@
+package com.ensias.spaceforces.submission;
+
+import com.ensias.spaceforces.contestparticipation.ContestParticipation;
+import com.ensias.spaceforces.contestparticipation.ContestParticipationRepository;
+import com.ensias.spaceforces.contestparticipation.ContestScoreChangedEvent;
+import com.ensias.spaceforces.exception.BadRequestException;
+import com.ensias.spaceforces.option.Option;
+import com.ensias.spaceforces.option.OptionRepository;
+import com.ensias.spaceforces.question.Question;
+import com.ensias.spaceforces.question.QuestionRepository;
+import com.ensias.spaceforces.quiz.Quiz;
+import com.ensias.spaceforces.quiz.QuizRepository;
+import com.ensias.spaceforces.quiz.QuizStatus;
+import com.ensias.spaceforces.rank.RankService;
+import com.ensias.spaceforces.submission.dto.QuizSubmissionRequest;
+import com.ensias.spaceforces.user.User;
+import com.ensias.spaceforces.user.UserPointsChangedEvent;
+import com.ensias.spaceforces.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionServiceTest {
+
+    @Mock private SubmissionRepository submissionRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private QuizRepository quizRepository;
+    @Mock private QuestionRepository questionRepository;
+    @Mock private OptionRepository optionRepository;
+    @Mock private ContestParticipationRepository participationRepository;
+    @Mock private RankService rankService;
+    @Mock private AnswerKeyCache answerKeyCache;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private SubmissionService submissionService;
+
+    private User user;
+    private Quiz quiz;
+    private Question firstQuestion;
+    private Question secondQuestion;
+    private Option firstCorrect;
+    private Option secondWrong;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).points(5).build();
+        quiz = Quiz.builder().id(10L).status(QuizStatus.LIVE).build();
+
+        firstQuestion = Question.builder().id(100L).quiz(quiz).points(10).build();
+        secondQuestion = Question.builder().id(101L).quiz(quiz).points(20).build();
+
+        firstCorrect = Option.builder().id(1000L).question(firstQuestion).valid(true).build();
+        secondWrong = Option.builder().id(1001L).question(secondQuestion).valid(false).build();
+    }
+
+    private QuizSubmissionRequest request(long... questionAndOptionIds) {
+        List<QuizSubmissionRequest.QuestionSubmission> answers = new ArrayList<>();
+        for (int i = 0; i < questionAndOptionIds.length; i += 2) {
+            QuizSubmissionRequest.QuestionSubmission answer = new QuizSubmissionRequest.QuestionSubmission();
+            answer.setQuestionId(questionAndOptionIds[i]);
+            answer.setOptionId(questionAndOptionIds[i + 1]);
+            answers.add(answer);
+        }
+        QuizSubmissionRequest request = new QuizSubmissionRequest();
+        request.setSubmissions(answers);
+        return request;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void processQuizSubmission_GradesAllAnswersWithSetBasedLookups() {
+        when(questionRepository.findAllById(any())).thenReturn(List.of(firstQuestion, secondQuestion));
+        when(optionRepository.findAllById(any())).thenReturn(List.of(firstCorrect, secondWrong));
+        when(submissionRepository.findSubmittedQuestionIds(eq(1L), any())).thenReturn(List.of());
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(participationRepository.findByUserIdAndQuizId(1L, 10L)).thenReturn(Optional.empty());
+        when(userRepository.addPoints(1L, 10)).thenReturn(15);
+        when(userRepository.findUsernameById(1L)).thenReturn(Optional.of("alice"));
+        when(participationRepository.save(any(ContestParticipation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ContestParticipation result = submissionService.processQuizSubmission(
+                request(100L, 1000L, 101L, 1001L), 1L);
+
+        assertEquals(10, result.getScore());
+        assertSame(quiz, result.getQuiz());
+        verify(eventPublisher).publishEvent(new UserPointsChangedEvent(1L, 15));
+        verify(eventPublisher).publishEvent(any(ContestScoreChangedEvent.class));
+        verify(userRepository, never()).findById(anyLong());
+        verify(userRepository, never()).save(any(User.class));
+
+        ArgumentCaptor<List<Submission>> saved = ArgumentCaptor.forClass(List.class);
+        verify(submissionRepository).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertEquals(10, saved.getValue().get(0).getScore());
+        assertEquals(0, saved.getValue().get(1).getScore());
+
+        verify(questionRepository, never()).findById(anyLong());
+        verify(optionRepository, never()).findById(anyLong());
+        verify(submissionRepository, never()).existsByUserIdAndQuestionId(anyLong(), anyLong());
+    }
+
+    @Test
+    void processQuizSubmission_LiveAnswerKey_SkipsQuestionAndOptionTables() {
+        QuizAnswerKey answerKey = QuizAnswerKey.of(10L, LocalDateTime.now().minusMinutes(5),
+                LocalDateTime.now().plusMinutes(25), List.of(firstQuestion, secondQuestion), List.of(firstCorrect, secondWrong));
+        when(answerKeyCache.findByQuestionId(100L)).thenReturn(Optional.of(answerKey));
+        when(quizRepository.findStatusById(10L)).thenReturn(Optional.of(QuizStatus.LIVE));
+        when(submissionRepository.findSubmittedQuestionIds(eq(1L), any())).thenReturn(List.of());
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(quizRepository.getReferenceById(10L)).thenReturn(quiz);
+        when(participationRepository.findByUserIdAndQuizId(1L, 10L))
+                .thenReturn(Optional.of(ContestParticipation.builder().user(user).quiz(quiz).build()));
+        when(participationRepository.save(any(ContestParticipation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ContestParticipation result = submissionService.processQuizSubmission(
+                request(100L, 1000L, 101L, 1001L), 1L);
+
+        assertEquals(10, result.getScore());
+        verify(questionRepository, never()).findAllById(any());
+        verify(optionRepository, never()).findAllById(any());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void processQuizSubmission_AnswerKeyBeforeStart_ThrowsException() {
+        // Warmed-up key of a quiz that has not opened yet
+        QuizAnswerKey answerKey = QuizAnswerKey.of(10L, LocalDateTime.now().plusSeconds(30),
+                LocalDateTime.now().plusMinutes(30), List.of(firstQuestion, secondQuestion), List.of(firstCorrect, secondWrong));
+        when(answerKeyCache.findByQuestionId(100L)).thenReturn(Optional.of(answerKey));
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                submissionService.processQuizSubmission(request(100L, 1000L, 101L, 1001L), 1L));
+        assertTrue(ex.getMessage().contains("not open for submissions"));
+        verify(submissionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void processQuizSubmission_AnswerKeyOfQuizClosedElsewhere_EvictsAndThrows() {
+        QuizAnswerKey answerKey = QuizAnswerKey.of(10L, LocalDateTime.now().minusMinutes(5),
+                LocalDateTime.now().plusMinutes(25), List.of(firstQuestion, secondQuestion), List.of(firstCorrect, secondWrong));
+        when(answerKeyCache.findByQuestionId(100L)).thenReturn(Optional.of(answerKey));
+        when(quizRepository.findStatusById(10L)).thenReturn(Optional.of(QuizStatus.FINISHED));
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                submissionService.processQuizSubmission(request(100L, 1000L, 101L, 1001L), 1L));
+        assertTrue(ex.getMessage().contains("Quiz is not Live"));
+        verify(answerKeyCache).evict(10L);
+        verify(submissionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void processQuizSubmission_OptionFromAnotherQuestion_ThrowsException() {
+        when(questionRepository.findAllById(any())).thenReturn(List.of(firstQuestion));
+        when(submissionRepository.findSubmittedQuestionIds(eq(1L), any())).thenReturn(List.of());
+        when(optionRepository.findAllById(any())).thenReturn(List.of(secondWrong));
+
+        assertThrows(BadRequestException.class, () ->
+                submissionService.processQuizSubmission(request(100L, 1001L), 1L));
+        verify(submissionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void processQuizSubmission_AlreadySubmitted_ThrowsException() {
+        when(questionRepository.findAllById(any())).thenReturn(List.of(firstQuestion));
+        when(submissionRepository.findSubmittedQuestionIds(eq(1L), any())).thenReturn(List.of(100L));
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                submissionService.processQuizSubmission(request(100L, 1000L), 1L));
+        assertTrue(ex.getMessage().contains("User already submitted answer for question"));
+        verifyNoInteractions(optionRepository);
+    }
+
+    @Test
+    void processQuizSubmission_QuizNotLive_ThrowsException() {
+        quiz.setStatus(QuizStatus.CREATED);
+        when(questionRepository.findAllById(any())).thenReturn(List.of(firstQuestion));
+
+        BadRequestException ex = assertThrows(BadRequestException.class, () ->
+                submissionService.processQuizSubmission(request(100L, 1000L), 1L));
+        assertTrue(ex.getMessage().contains("Quiz is not Live"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.ensias.spaceforces.user;
+
+import com.ensias.spaceforces.user.dto.GlobalStandingDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GlobalRankingServiceTest {
+
+    @Mock private UserRepository userRepository;
+
+    @InjectMocks private GlobalRankingService rankingService;
+
+    @Test
+    void rebuild_PointsChangedWhileReading_AreKeptAfterTheSwap() {
+        when(userRepository.findAllPoints()).thenAnswer(inv -> {
+            // Arrives while the rows are read, and they predate it
+            rankingService.onPointsChanged(new UserPointsChangedEvent(2L, 50));
+            return List.of(new Object[]{1L, 30}, new Object[]{2L, 10});
+        });
+
+        rankingService.rebuild();
+
+        GlobalStandingDTO standing = rankingService.getStanding(2L);
+        assertEquals(50, standing.getPoints());
+        assertEquals(1, standing.getPosition());
+        assertEquals(2, rankingService.getStanding(1L).getPosition());
+    }
+
+    @Test
+    void onPointsChanged_MovesTheUserInTheOrdering() {
+        when(userRepository.findAllPoints()).thenReturn(List.of(new Object[]{1L, 30}, new Object[]{2L, 10}));
+        rankingService.rebuild();
+
+        rankingService.onPointsChanged(new UserPointsChangedEvent(2L, 40));
+
+        GlobalStandingDTO standing = rankingService.getStanding(2L);
+        assertEquals(1, standing.getPosition());
+        assertEquals(2, standing.getTotalUsers());
+    }
+}
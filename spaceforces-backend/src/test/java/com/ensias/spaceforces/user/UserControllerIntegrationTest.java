@@ -3,6 +3,7 @@ package com.ensias.spaceforces.user;
 import com.ensias.spaceforces.BaseIntegrationTest;
 import com.ensias.spaceforces.rank.Rank;
 import com.ensias.spaceforces.rank.RankRepository;
+import com.ensias.spaceforces.rank.RankService;
 import com.ensias.spaceforces.user.dto.LoginDTO;
 import com.ensias.spaceforces.user.dto.RegistrationDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,6 +29,9 @@ class UserControllerIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private RankRepository rankRepository;
 
+    @Autowired
+    private RankService rankService;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -51,6 +55,7 @@ class UserControllerIntegrationTest extends BaseIntegrationTest {
                 .maxPoints(100)
                 .build();
         defaultRank = rankRepository.save(defaultRank);
+        rankService.refreshRanks();
 
         User adminUser = User.builder()
                 .username("admin")
@@ -173,4 +178,80 @@ class UserControllerIntegrationTest extends BaseIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("User successfully promoted to admin"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldPageLeaderboardWithKeysetCursor() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            userRepository.save(User.builder()
+                    .username("player" + i)
+                    .email("player" + i + "@test.com")
+                    .password(passwordEncoder.encode("password123"))
+                    .isAdmin(false)
+                    .rank(defaultRank)
+                    .points(i * 10)
+                    .build());
+        }
+
+        LoginDTO loginDTO = new LoginDTO();
+        loginDTO.setEmail("admin@test.com");
+        loginDTO.setPassword("password");
+        String token = objectMapper.readTree(mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginDTO)))
+                .andReturn().getResponse().getContentAsString()).get("token").asText();
+
+        String firstPage = mockMvc.perform(get("/leaderboard").param("size", "2")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(2))
+                .andExpect(jsonPath("$.users[0].username").value("player3"))
+                .andExpect(jsonPath("$.users[1].username").value("player2"))
+                .andExpect(jsonPath("$.nextAfterPoints").value(20))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/leaderboard").param("size", "2")
+                        .param("afterPoints", "20")
+                        .param("afterId", objectMapper.readTree(firstPage).get("nextAfterId").asText())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users.length()").value(2))
+                .andExpect(jsonPath("$.users[0].username").value("player1"))
+                .andExpect(jsonPath("$.users[1].username").value("admin"))
+                .andExpect(jsonPath("$.nextAfterPoints").value(0));
+    }
+
+    @Test
+    void shouldListAllUsersWithTheirRankInOneStatement() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            userRepository.save(User.builder()
+                    .username("player" + i)
+                    .email("player" + i + "@test.com")
+                    .password("password123")
+                    .rank(defaultRank)
+                    .points(i * 10)
+                    .build());
+        }
+
+        LoginDTO loginDTO = new LoginDTO();
+        loginDTO.setEmail("admin@test.com");
+        loginDTO.setPassword("password");
+        String token = objectMapper.readTree(mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginDTO)))
+                .andReturn().getResponse().getContentAsString()).get("token").asText();
+
+        assertSqlBudget(1, 5, () -> mockMvc.perform(get("/all-users")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].username").value("player3"))
+                .andExpect(jsonPath("$[0].rank.title").value("Beginner")));
+
+        mockMvc.perform(get("/all-users")
+                        .param("page", "1")
+                        .param("size", "3")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+}
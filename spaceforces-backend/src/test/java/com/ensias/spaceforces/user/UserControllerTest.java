@@ -23,6 +23,7 @@ import static org.mockito.Mockito.*;
 class UserControllerTest {
 
     @Mock private UserService userService;
+    @Mock private GlobalRankingService globalRankingService;
     @InjectMocks private UserController userController;
 
     private LoginDTO loginDTO;
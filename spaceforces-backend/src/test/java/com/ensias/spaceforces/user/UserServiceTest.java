@@ -2,7 +2,7 @@ package com.ensias.spaceforces.user;
 
 import com.ensias.spaceforces.exception.EmailTakenException;
 import com.ensias.spaceforces.rank.Rank;
-import com.ensias.spaceforces.rank.RankRepository;
+import com.ensias.spaceforces.rank.RankService;
 import com.ensias.spaceforces.user.dto.LoginDTO;
 import com.ensias.spaceforces.user.dto.RegistrationDTO;
 import com.ensias.spaceforces.user.dto.UserDTO;
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
@@ -32,7 +33,8 @@ class UserServiceTest {
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private AuthenticationManager authenticationManager;
     @Mock private JwtTokenProvider jwtTokenProvider;
-    @Mock private RankRepository rankRepository;
+    @Mock private RankService rankService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private UserService userService;
 
@@ -73,7 +75,7 @@ class UserServiceTest {
 
         when(userRepository.existsByEmail(any())).thenReturn(false);
         when(passwordEncoder.encode(any())).thenReturn("encodedPassword");
-        when(rankRepository.findAll()).thenReturn(List.of(defaultRank));
+        when(rankService.getDefaultRank()).thenReturn(Optional.of(defaultRank));
 
         // Act
         userService.registerUser(registrationDTO);
@@ -171,7 +173,7 @@ class UserServiceTest {
     void registerUser_NoRanksInSystem_ThrowsException() {
         // Arrange
         when(userRepository.existsByEmail(any())).thenReturn(false);
-        when(rankRepository.findAll()).thenReturn(List.of());
+        when(rankService.getDefaultRank()).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(IllegalStateException.class, () ->
@@ -0,0 +1,64 @@
+package com.ensias.spaceforces.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    @Test
+    void advance_ReturnsOnlyItemsWhoseDeadlinePassed() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 250);
+        wheel.schedule("c", 900);
+
+        assertTrue(wheel.advance(200).isEmpty());
+        assertEquals(List.of("a", "b"), wheel.advance(300));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void advance_ItemsBeyondOneRevolutionWaitForTheirRound() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 4, 0);
+        wheel.schedule("later", 1000);
+
+        assertTrue(wheel.advance(500).isEmpty());
+        assertTrue(wheel.advance(900).isEmpty());
+        assertEquals(List.of("later"), wheel.advance(1000));
+    }
+
+    @Test
+    void advance_LargeJumpExpiresEverythingDue() {
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(10, 4, 0);
+        for (int i = 1; i <= 20; i++) {
+            wheel.schedule(i, i * 10L);
+        }
+
+        assertEquals(20, wheel.advance(10_000).size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void scheduleAndCancel_RescheduleReplacesDeadlineAndCancelDrops() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0);
+        wheel.schedule("moved", 200);
+        wheel.schedule("moved", 600);
+        wheel.schedule("cancelled", 200);
+        assertTrue(wheel.cancel("cancelled"));
+
+        assertTrue(wheel.advance(300).isEmpty());
+        assertEquals(List.of("moved"), wheel.advance(600));
+        assertTrue(wheel.advance(2000).isEmpty());
+    }
+
+    @Test
+    void schedule_PastDeadline_ExpiresOnNextTick() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 1000);
+        wheel.schedule("overdue", 0);
+
+        assertEquals(List.of("overdue"), wheel.advance(1100));
+    }
+}
@@ -0,0 +1,51 @@
+package com.ensias.spaceforces.utils;
+
+import com.ensias.spaceforces.user.User;
+import com.ensias.spaceforces.user.config.CustomUserDetails;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", "");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationDate", 60_000L);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    void getUserDetails_BuildsPrincipalFromClaims() {
+        User user = User.builder().id(42L).email("player@test.com").password("hash").isAdmin(true).build();
+        CustomUserDetails principal = new CustomUserDetails(user);
+        String token = jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        CustomUserDetails details = jwtTokenProvider.getUserDetails(token);
+
+        assertEquals(42L, details.getId());
+        assertEquals("player@test.com", details.getUsername());
+        assertTrue(details.isAdmin());
+        assertNull(details.getPassword());
+    }
+
+    @Test
+    void getUserDetails_RejectsTamperedToken() {
+        User user = User.builder().id(1L).email("player@test.com").password("hash").build();
+        CustomUserDetails principal = new CustomUserDetails(user);
+        String token = jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtTokenProvider.getUserDetails(tampered));
+    }
+}
@@ -0,0 +1,52 @@
+package com.ensias.spaceforces.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    void matchesSortedSetUnderRandomInsertsAndRemoves() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(1_000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), tree.add(value));
+            } else {
+                assertEquals(expected.remove(value), tree.remove(value));
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected);
+        assertEquals(sorted.size(), tree.size());
+        assertEquals(sorted, tree.head(Integer.MAX_VALUE));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i), tree.get(i));
+            assertEquals(i, tree.indexOf(sorted.get(i)));
+        }
+    }
+
+    @Test
+    void headAndIndexOfHandleEdges() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Collections.reverseOrder());
+        tree.add(1);
+        tree.add(3);
+        tree.add(2);
+
+        assertEquals(List.of(3, 2), tree.head(2));
+        assertEquals(List.of(), tree.head(0));
+        assertEquals(-1, tree.indexOf(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(3));
+    }
+}
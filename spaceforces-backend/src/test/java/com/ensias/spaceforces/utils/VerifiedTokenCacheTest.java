@@ -0,0 +1,72 @@
+package com.ensias.spaceforces.utils;
+
+import com.ensias.spaceforces.user.User;
+import com.ensias.spaceforces.user.config.CustomUserDetails;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", "");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationDate", 60_000L);
+        jwtTokenProvider.init();
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(jwtTokenProvider, meterRegistry, 2);
+    }
+
+    private String tokenFor(long userId) {
+        User user = User.builder().id(userId).email("user" + userId + "@test.com").password("hash").build();
+        CustomUserDetails principal = new CustomUserDetails(user);
+        return jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("jwt.token.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    void secondLookupIsServedFromCache() {
+        String token = tokenFor(1L);
+
+        CustomUserDetails first = cache.getUserDetails(token);
+        CustomUserDetails second = cache.getUserDetails(token);
+
+        assertSame(first, second);
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    void tokenWithCachedSignatureButOtherPayloadIsRejected() {
+        String token = tokenFor(1L);
+        cache.getUserDetails(token);
+
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1] + "x." + parts[2];
+
+        assertThrows(JwtException.class, () -> cache.getUserDetails(forged));
+    }
+
+    @Test
+    void staysWithinMaxSize() {
+        cache.getUserDetails(tokenFor(1L));
+        cache.getUserDetails(tokenFor(2L));
+        cache.getUserDetails(tokenFor(3L));
+
+        assertEquals(2, cache.size());
+    }
+}
@@ -2,6 +2,7 @@
 
 import { useEffect, useState } from "react";
 import { useRouter } from "next/navigation";
+import axios from "axios";
 import { getQuizInfoById } from "@/services/getQuizInfoById";
 import { getParticipantsByQuizId } from "@/services/getParticipantsByQuizId";
 import { getQuizDetails } from "@/services/getQuizDetails";
@@ -43,6 +44,7 @@ export default function QuizResultsPage({ params }: { params: PageParams }) {
   const [participants, setParticipants] = useState<Participation[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  const [answersHidden, setAnswersHidden] = useState(false);
 
   useEffect(() => {
     const fetchQuizData = async () => {
@@ -54,7 +56,16 @@ export default function QuizResultsPage({ params }: { params: PageParams }) {
         setQuiz(quizData);
 
         // Fetch quiz details with questions
-        const quizDetailsData = await getQuizDetails(quizId);
+        let quizDetailsData: QuizDetails | null = null;
+        try {
+          quizDetailsData = await getQuizDetails(quizId);
+        } catch (err) {
+          // Answers are served to the creator, admins and, once the quiz has finished, its participants
+          if (!axios.isAxiosError(err) || err.response?.status !== 403) {
+            throw err;
+          }
+          setAnswersHidden(true);
+        }
         setQuizDetails(quizDetailsData);
 
         // Fetch participants
@@ -584,7 +595,9 @@ export default function QuizResultsPage({ params }: { params: PageParams }) {
                   <div className="flex flex-col items-center justify-center py-8">
                     <FileText className="h-12 w-12 text-[#9370DB]/50 mb-4" />
                     <p className="text-white/70 text-center">
-                      No questions available for this quiz.
+                      {answersHidden
+                        ? "Answers are shown to participants once the quiz has finished."
+                        : "No questions available for this quiz."}
                     </p>
                   </div>
                 )}
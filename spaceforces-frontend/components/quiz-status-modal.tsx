@@ -12,7 +12,7 @@ import {
 } from "@/components/ui/dialog";
 import { formatDate, formatDuration, getDifficultyColor } from "@/lib/utils";
 import type { GetQuizzesResponse } from "@/services/getQuizzes";
-import { getParticipantsByQuizId } from "@/services/getParticipantsByQuizId";
+import { getQuizLeaderboard } from "@/services/getQuizLeaderboard";
 import { Award, Calendar, Clock, Info, Tag, Users, Trophy } from "lucide-react";
 import Link from "next/link";
 import { useEffect, useState } from "react";
@@ -20,7 +20,7 @@ import { toast } from "react-hot-toast";
 import { Skeleton } from "@/components/ui/skeleton";
 import { Avatar, AvatarFallback } from "@/components/ui/avatar";
 import { Progress } from "@/components/ui/progress";
-import type { Participation, User } from "@/types";
+import type { LeaderboardEntry } from "@/types";
 
 interface QuizStatusModalProps {
   quiz: GetQuizzesResponse | null;
@@ -29,7 +29,7 @@ interface QuizStatusModalProps {
 }
 
 export function QuizStatusModal({ quiz, open, onOpenChange }: QuizStatusModalProps) {
-  const [participants, setParticipants] = useState<Participation[]>([]);
+  const [participants, setParticipants] = useState<LeaderboardEntry[]>([]);
   const [loading, setLoading] = useState(true);
   const [timeRemaining, setTimeRemaining] = useState<string | null>(null);
   const [timeUntilStart, setTimeUntilStart] = useState<string | null>(null);
@@ -41,7 +41,7 @@ export function QuizStatusModal({ quiz, open, onOpenChange }: QuizStatusModalPro
     const fetchParticipants = async () => {
       try {
         setLoading(true);
-        const data = await getParticipantsByQuizId(quiz.id.toString());
+        const data = await getQuizLeaderboard(quiz.id.toString());
         setParticipants(data);
       } catch (error) {
         toast.error("Error fetching participants");
@@ -135,8 +135,8 @@ export function QuizStatusModal({ quiz, open, onOpenChange }: QuizStatusModalPro
 
   if (!quiz) return null;
 
-  // Sort participants by score (for FINISHED quizzes)
-  const sortedParticipants = [...participants].sort((a, b) => b.score - a.score);
+  // The leaderboard already comes ranked by score, then completion time
+  const sortedParticipants = participants;
 
   // Calculate progress percentage for LIVE quizzes
   const calculateProgress = () => {
@@ -153,12 +153,12 @@ export function QuizStatusModal({ quiz, open, onOpenChange }: QuizStatusModalPro
   };
 
   // Helper function to get initials from username
-  const getInitials = (user: User): string => {
-    return user.username.substring(0, 2).toUpperCase();
+  const getInitials = (username: string): string => {
+    return username.substring(0, 2).toUpperCase();
   };
 
   // Helper function to determine participant status
-  const getParticipantStatus = (participation: Participation): string => {
+  const getParticipantStatus = (participation: LeaderboardEntry): string => {
     const quizEndTime = new Date(quiz.startDateTime ?? "").getTime() + quiz.duration * 60 * 1000;
     const completionTime = new Date(participation.completionTime).getTime();
 
@@ -256,14 +256,14 @@ export function QuizStatusModal({ quiz, open, onOpenChange }: QuizStatusModalPro
                 ) : participants.length > 0 ? (
                   <div className="space-y-2 max-h-[200px] overflow-y-auto pr-2">
                     {participants.map((participant) => (
-                      <div key={participant.id} className="flex items-center gap-3 p-2 rounded-md bg-[#4B0082]/20">
+                      <div key={participant.userId} className="flex items-center gap-3 p-2 rounded-md bg-[#4B0082]/20">
                         <Avatar className="h-8 w-8 border border-[#9370DB]/30">
                           <AvatarFallback className="bg-[#6A0DAD] text-[#E6E6FA]">
-                            {getInitials(participant.user)}
+                            {getInitials(participant.username)}
                           </AvatarFallback>
                         </Avatar>
                         <div>
-                          <p className="text-sm font-medium">{participant.user.username}</p>
+                          <p className="text-sm font-medium">{participant.username}</p>
                           <p className="text-xs text-white/60">{getParticipantStatus(participant)}</p>
                         </div>
                       </div>
@@ -320,7 +320,7 @@ export function QuizStatusModal({ quiz, open, onOpenChange }: QuizStatusModalPro
                 <div className="space-y-2 max-h-[200px] overflow-y-auto pr-2">
                   {sortedParticipants.map((participant, index) => (
                     <div
-                      key={participant.id}
+                      key={participant.userId}
                       className={`flex items-center gap-3 p-2 rounded-md ${
                         index === 0
                           ? "bg-yellow-500/20 border border-yellow-500/30"
@@ -336,11 +336,11 @@ export function QuizStatusModal({ quiz, open, onOpenChange }: QuizStatusModalPro
                       </div>
                       <Avatar className="h-8 w-8 border border-[#9370DB]/30">
                         <AvatarFallback className="bg-[#6A0DAD] text-[#E6E6FA]">
-                          {getInitials(participant.user)}
+                          {getInitials(participant.username)}
                         </AvatarFallback>
                       </Avatar>
                       <div className="flex-1">
-                        <p className="text-sm font-medium">{participant.user.username}</p>
+                        <p className="text-sm font-medium">{participant.username}</p>
                         <p className="text-xs text-white/60">
                           Completed: {formatDate(new Date(participant.completionTime))}
                         </p>
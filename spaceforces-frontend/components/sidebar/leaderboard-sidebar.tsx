@@ -7,49 +7,21 @@ import { Card, CardContent, CardFooter, CardHeader, CardTitle } from "@/componen
 import { Button } from "@/components/ui/button";
 import { ScrollArea } from "@/components/ui/scroll-area";
 import { Avatar, AvatarFallback, AvatarImage } from "@/components/ui/avatar";
-import { getLeaderboard } from "@/services/getLeaderboard";
+import { getGlobalLeaderboard } from "@/services/getGlobalLeaderboard";
 import { Badge } from "@/components/ui/badge";
 import toast from "react-hot-toast";
-import type { Participation } from "@/types";
+import type { User as UserType } from "@/types";
 
-function processLeaderboardData(participations: Participation[]) {
-  const validParticipations = participations.filter((p) => p.user !== null);
-
-  // Group by user and calculate total score
-  const userScores = validParticipations.reduce((acc: any, participation) => {
-    const userId = participation.user.id;
-
-    if (!acc[userId]) {
-      acc[userId] = {
-        user: participation.user,
-        totalScore: 0,
-        participationCount: 0,
-        highestScore: 0,
-      };
-    }
-
-    acc[userId].totalScore += participation.score;
-    acc[userId].participationCount += 1;
-    acc[userId].highestScore = Math.max(acc[userId].highestScore, participation.score);
-
-    return acc;
-  }, {});
-
-  // Convert to array and sort by total score
-  const leaderboard = Object.values(userScores)
-    .sort((a: any, b: any) => b.totalScore - a.totalScore)
-    .slice(0, 10) // Get top 10
-    .map((entry: any, index) => ({
-      rank: index + 1,
-      username: entry.user.username,
-      points: entry.totalScore,
-      rankTitle: entry.user.rank?.title || "Space Cadet",
-      participationCount: entry.participationCount,
-      highestScore: entry.highestScore,
-      avatar: `/placeholder.svg?height=40&width=40`, // Placeholder avatar
-    }));
-
-  return leaderboard;
+// The first page of the server-side ranking is already the top 10 by points
+function processLeaderboardData(users: UserType[]) {
+  return users.map((user, index) => ({
+    rank: index + 1,
+    username: user.username,
+    points: user.points,
+    rankTitle: user.rank?.title || "Space Cadet",
+    rankAbbreviation: user.rank?.abbreviation || "SC",
+    avatar: `/placeholder.svg?height=40&width=40`, // Placeholder avatar
+  }));
 }
 
 export default function LeaderboardSidebar() {
@@ -60,8 +32,8 @@ export default function LeaderboardSidebar() {
     const fetchLeaderboard = async () => {
       try {
         setLoading(true);
-        const participations = await getLeaderboard();
-        const processedData: any = processLeaderboardData(participations);
+        const page = await getGlobalLeaderboard(10);
+        const processedData: any = processLeaderboardData(page.users);
         setLeaderboard(processedData);
       } catch (error) {
         console.error("Error fetching leaderboard:", error);
@@ -126,13 +98,12 @@ export default function LeaderboardSidebar() {
                         <Badge variant="outline" className="text-[0.65rem] h-4 px-1 bg-[#4B0082]/30 text-white/70">
                           {player.rankTitle}
                         </Badge>
-                        <span className="text-[0.65rem] text-white/50 ml-2">{player.participationCount} quizzes</span>
                       </div>
                     </div>
                   </div>
                   <div className="flex flex-col items-end">
                     <div className="font-bold text-sm text-[#E6E6FA]">{player.points.toLocaleString()}</div>
-                    <div className="text-[0.65rem] text-white/50">Best: {player.highestScore.toLocaleString()}</div>
+                    <div className="text-[0.65rem] text-white/50">{player.rankAbbreviation}</div>
                   </div>
                 </div>
               ))}
@@ -0,0 +1,15 @@
+import axiosInstance from "./axiosInstance";
+import { UserLeaderboardPage } from "@/types";
+
+// Keyset-paginated by points; pass the previous page's nextAfterPoints/nextAfterId to continue
+export const getGlobalLeaderboard = async (size = 10, afterPoints?: number, afterId?: number) => {
+  try {
+    const response = await axiosInstance.get<UserLeaderboardPage>(`/leaderboard`, {
+      params: { size, afterPoints, afterId },
+    });
+    return response.data;
+  } catch (error) {
+    console.error("Error fetching global leaderboard:", error);
+    throw error;
+  }
+};
@@ -7,9 +7,10 @@ export type GetQuestionsByQuizResponse = QuizQuestion[];
 
 export const getQuestionsByQuizId = async (quizId: GetQuestionsByQuizRequest): Promise<GetQuestionsByQuizResponse> => {
   try {
-    const response = await axiosInstance.get<QuizQuestion[]>(`/quizzes/${quizId}/questions`);
+    // The participant view leaves out the correct answers, which only the quiz creator may read
+    const response = await axiosInstance.get<{ questions: QuizQuestion[] }>(`/quizzes/${quizId}/participant-view`);
 
-    return response.data;
+    return response.data.questions;
   } catch (error) {
     throw error;
   }
@@ -0,0 +1,15 @@
+import axiosInstance from "./axiosInstance";
+import { LeaderboardEntry } from "@/types";
+
+// Served from the in-memory contest board, so it is cheap to refresh while a quiz is live
+export const getQuizLeaderboard = async (quizId: string, limit = 500) => {
+  try {
+    const response = await axiosInstance.get<LeaderboardEntry[]>(`/participations/quiz/${quizId}/leaderboard`, {
+      params: { limit },
+    });
+    return response.data;
+  } catch (error) {
+    console.error("Error fetching quiz leaderboard:", error);
+    throw error;
+  }
+};
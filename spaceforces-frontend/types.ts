@@ -86,6 +86,20 @@ export interface Participation {
   completionTime: string;
 }
 
+export interface LeaderboardEntry {
+  rank: number;
+  userId: number;
+  username: string;
+  score: number;
+  completionTime: string;
+}
+
+export interface UserLeaderboardPage {
+  users: User[];
+  nextAfterPoints: number | null;
+  nextAfterId: number | null;
+}
+
 export interface Submission {
   id: number;
   questionId: number;